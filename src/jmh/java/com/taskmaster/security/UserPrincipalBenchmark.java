@@ -0,0 +1,26 @@
+package com.taskmaster.security;
+
+import com.taskmaster.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class UserPrincipalBenchmark {
+
+    private User user;
+
+    @Setup
+    public void setUp() {
+        user = User.builder().id(42L).username("bench").email("bench@example.com")
+                .password("$2a$10$abcdefghijklmnopqrstuuJ1hG0p0s0B1cW1y7eXvT1Rk7m6Qe3bW")
+                .firstName("Bench").lastName("Mark").build();
+    }
+
+    @Benchmark
+    public UserPrincipal create() {
+        return UserPrincipal.create(user);
+    }
+}
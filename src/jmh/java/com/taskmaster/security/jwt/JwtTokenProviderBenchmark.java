@@ -0,0 +1,53 @@
+package com.taskmaster.security.jwt;
+
+import com.taskmaster.model.User;
+import com.taskmaster.security.UserPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        // Same values as application.properties
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret",
+                "YourSuperSecretKeyWhichShouldBeLongAndSecureAndStoredSafelyInAProperWay!!!");
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationInMs", 86400000);
+        ReflectionTestUtils.setField(tokenProvider, "meterRegistry", new SimpleMeterRegistry());
+        tokenProvider.init();
+
+        User user = User.builder().id(42L).username("bench").email("bench@example.com")
+                .password("{noop}secret").firstName("Bench").lastName("Mark").build();
+        UserPrincipal principal = UserPrincipal.create(user);
+        authentication = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        token = tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Long getUserIdFromJWT() {
+        return tokenProvider.getUserIdFromJWT(token);
+    }
+}
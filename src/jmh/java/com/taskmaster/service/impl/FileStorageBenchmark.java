@@ -0,0 +1,53 @@
+package com.taskmaster.service.impl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Each stored file is removed again inside the benchmark so long runs don't fill the disk;
+// the delete is a small constant on top of the copy.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FileStorageBenchmark {
+
+    @Param({"1024", "65536", "1048576"})
+    private int fileSize;
+
+    private Path uploadDir;
+    private FileStorageServiceImpl fileStorageService;
+    private MockMultipartFile file;
+
+    @Setup
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("taskmaster-bench-uploads");
+        fileStorageService = new FileStorageServiceImpl();
+        ReflectionTestUtils.setField(fileStorageService, "uploadDir", uploadDir.toString());
+        ReflectionTestUtils.setField(fileStorageService, "meterRegistry", new SimpleMeterRegistry());
+        fileStorageService.init();
+
+        byte[] content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+        file = new MockMultipartFile("file", "report.pdf", "application/pdf", content);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(uploadDir);
+    }
+
+    @Benchmark
+    public String storeFile() throws IOException {
+        String storedPath = fileStorageService.storeFile(file, "tasks/1");
+        Files.delete(uploadDir.resolve(storedPath));
+        return storedPath;
+    }
+}
@@ -0,0 +1,89 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.dto.comment.CommentResponse;
+import com.taskmaster.dto.project.ProjectResponse;
+import com.taskmaster.dto.task.TaskResponse;
+import com.taskmaster.model.Comment;
+import com.taskmaster.model.Project;
+import com.taskmaster.model.Task;
+import com.taskmaster.model.User;
+import com.taskmaster.model.common.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// The mappers are private, so they are called through method handles resolved once in setUp
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseMappingBenchmark {
+
+    private MethodHandle taskMapper;
+    private MethodHandle projectMapper;
+    private MethodHandle commentMapper;
+
+    private TaskServiceImpl taskService;
+    private ProjectServiceImpl projectService;
+    private CommentServiceImpl commentService;
+
+    private Task task;
+    private Project project;
+    private Comment comment;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        taskService = new TaskServiceImpl();
+        projectService = new ProjectServiceImpl();
+        commentService = new CommentServiceImpl();
+        taskMapper = privateMapper(TaskServiceImpl.class, "mapToTaskResponse", TaskResponse.class, Task.class);
+        projectMapper = privateMapper(ProjectServiceImpl.class, "mapToProjectResponse", ProjectResponse.class, Project.class);
+        commentMapper = privateMapper(CommentServiceImpl.class, "mapToCommentResponse", CommentResponse.class, Comment.class);
+
+        Instant now = Instant.now();
+        User owner = User.builder().id(1L).username("owner").email("owner@example.com")
+                .password("secret").firstName("Project").lastName("Owner").build();
+        project = Project.builder().id(10L).name("Benchmark project")
+                .description("Project used by the mapping benchmarks").owner(owner).build();
+        project.setCreatedAt(now);
+        project.setUpdatedAt(now);
+
+        Task parent = Task.builder().id(99L).build();
+        task = Task.builder().id(100L).title("Write benchmarks").description("Cover the response mappers")
+                .status(TaskStatus.IN_PROGRESS).dueDate(LocalDate.now().plusDays(7))
+                .project(project).parent(parent).assignee(owner)
+                .commentCount(3).attachmentCount(1).build();
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+
+        comment = Comment.builder().id(1000L).content("Looks good to me").task(task).author(owner).build();
+        comment.setCreatedAt(now);
+        comment.setUpdatedAt(now);
+    }
+
+    @Benchmark
+    public TaskResponse mapToTaskResponse() throws Throwable {
+        return (TaskResponse) taskMapper.invokeExact(taskService, task);
+    }
+
+    @Benchmark
+    public ProjectResponse mapToProjectResponse() throws Throwable {
+        return (ProjectResponse) projectMapper.invokeExact(projectService, project);
+    }
+
+    @Benchmark
+    public CommentResponse mapToCommentResponse() throws Throwable {
+        return (CommentResponse) commentMapper.invokeExact(commentService, comment);
+    }
+
+    private static MethodHandle privateMapper(Class<?> owner, String name, Class<?> returnType, Class<?> argType)
+            throws ReflectiveOperationException {
+        return MethodHandles.privateLookupIn(owner, MethodHandles.lookup())
+                .findVirtual(owner, name, MethodType.methodType(returnType, argType))
+                .asType(MethodType.methodType(returnType, owner, argType));
+    }
+}
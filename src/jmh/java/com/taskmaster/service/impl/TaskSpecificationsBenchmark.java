@@ -0,0 +1,79 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.model.Task;
+import com.taskmaster.model.common.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Builds the same filter chain as getTasksByProjectId against a real Hibernate metamodel.
+// H2 only backs the bootstrap, no schema is created and no query is executed.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TaskSpecificationsBenchmark {
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManager entityManager;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.taskmaster.model");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        criteriaBuilder = entityManager.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    public Predicate projectOnly() {
+        return toPredicate(Specification.where(TaskSpecifications.belongsToProject(10L)));
+    }
+
+    @Benchmark
+    public Predicate projectStatusAndText() {
+        return toPredicate(Specification.where(TaskSpecifications.belongsToProject(10L))
+                .and(TaskSpecifications.hasStatus(TaskStatus.IN_PROGRESS))
+                .and(TaskSpecifications.containsText("Benchmark")));
+    }
+
+    @Benchmark
+    public Predicate allFilters() {
+        return toPredicate(Specification.where(TaskSpecifications.belongsToProject(10L))
+                .and(TaskSpecifications.hasStatus(TaskStatus.IN_PROGRESS))
+                .and(TaskSpecifications.containsText("Benchmark"))
+                .and(TaskSpecifications.inSubtreeOf(99L)));
+    }
+
+    private Predicate toPredicate(Specification<Task> spec) {
+        CriteriaQuery<Task> query = criteriaBuilder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+        return spec.toPredicate(root, query, criteriaBuilder);
+    }
+}
@@ -0,0 +1,317 @@
+package com.taskmaster.loadtest;
+
+import com.taskmaster.model.common.TaskStatus;
+import com.taskmaster.util.LexoRank;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Fills an empty schema with synthetic users, projects (Zipf-skewed member counts), tasks, comments and
+ * attachments through batched JDBC inserts. Ids are assigned here and the identity sequences are moved past
+ * them afterwards; the denormalized counters (comment/attachment counts, status rollups, storage usage) are
+ * written consistently with the generated rows.
+ */
+class DatasetSeeder {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatasetSeeder.class);
+
+    static final String SAMPLE_ATTACHMENT_PATH = "loadtest/sample.pdf"; // Shared by every seeded attachment row
+    static final int SAMPLE_ATTACHMENT_BYTES = 64 * 1024;
+    static final String USER_PASSWORD = "loadtest-password";
+
+    // Cumulative share of tasks per status, in TaskStatus order
+    private static final double[] STATUS_MIX = {0.30, 0.50, 0.60, 0.95, 1.00};
+    private static final Duration HISTORY = Duration.ofDays(180);
+    // Task.description and Comment.content are @Lob: on PostgreSQL Hibernate keeps the text in a large object
+    // and stores its oid in the column, so seeded rows must do the same to be readable by the application
+    private static final String LOB_TEXT = "CAST(lo_from_bytea(0, convert_to(?, 'UTF8')) AS text)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+    private final Path uploadDir;
+    private final Random random;
+    private final Instant now = Instant.now();
+
+    DatasetSeeder(JdbcTemplate jdbcTemplate, LoadTestSettings settings, Path uploadDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.settings = settings;
+        this.uploadDir = uploadDir;
+        this.random = new Random(settings.randomSeed);
+    }
+
+    SeededDataset seed() throws IOException {
+        long started = System.nanoTime();
+        writeSampleAttachment();
+
+        seedUsers();
+        int[] memberCounts = memberCounts();
+        long[] taskCounts = share(settings.tasks - settings.projects, memberCounts);
+        for (int i = 0; i < taskCounts.length; i++) {
+            taskCounts[i]++; // Every project gets at least one task
+        }
+        long[] commentCounts = share(settings.comments, taskCounts);
+        long[] attachmentCounts = share(settings.attachments, taskCounts);
+        long[] userStorage = new long[settings.users + 1];
+
+        List<SeededDataset.SeededProject> projects = new ArrayList<>(settings.projects);
+        long nextTaskId = 1;
+        long nextCommentId = 1;
+        long nextAttachmentId = 1;
+        long memberships = 0;
+        for (int i = 0; i < settings.projects; i++) {
+            long projectId = i + 1L;
+            long[] members = pickMembers(memberCounts[i]);
+            memberships += members.length;
+            insertProject(projectId, members, attachmentCounts[i] * SAMPLE_ATTACHMENT_BYTES);
+
+            int taskCount = (int) taskCounts[i];
+            int[] commentsPerTask = spreadOver(taskCount, commentCounts[i]);
+            int[] attachmentsPerTask = spreadOver(taskCount, attachmentCounts[i]);
+            insertTasks(projectId, nextTaskId, members, commentsPerTask, attachmentsPerTask);
+            insertComments(nextTaskId, nextCommentId, members, commentsPerTask);
+            insertAttachments(nextTaskId, nextAttachmentId, members, attachmentsPerTask, userStorage);
+
+            projects.add(new SeededDataset.SeededProject(projectId, members, nextTaskId, taskCount,
+                    nextAttachmentId, (int) attachmentCounts[i]));
+            nextTaskId += taskCount;
+            nextCommentId += commentCounts[i];
+            nextAttachmentId += attachmentCounts[i];
+            if ((i + 1) % 50 == 0 || i + 1 == settings.projects) {
+                logger.info("Seeded {}/{} projects ({} tasks so far)", i + 1, settings.projects, nextTaskId - 1);
+            }
+        }
+
+        updateUserStorage(userStorage);
+        for (String table : List.of("users", "projects", "tasks", "comments", "attachments")) {
+            jdbcTemplate.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), "
+                    + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + "), false)");
+        }
+        jdbcTemplate.execute("ANALYZE");
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("users", settings.users);
+        summary.put("projects", settings.projects);
+        summary.put("projectMemberships", memberships);
+        summary.put("largestProjectMembers", memberCounts[0]);
+        summary.put("tasks", nextTaskId - 1);
+        summary.put("comments", nextCommentId - 1);
+        summary.put("attachments", nextAttachmentId - 1);
+        summary.put("seedSeconds", (System.nanoTime() - started) / 1_000_000_000.0);
+        logger.info("Seeding finished: {}", summary);
+        return new SeededDataset(projects, summary);
+    }
+
+    private void writeSampleAttachment() throws IOException {
+        byte[] content = new byte[SAMPLE_ATTACHMENT_BYTES];
+        random.nextBytes(content);
+        Path sample = uploadDir.resolve(SAMPLE_ATTACHMENT_PATH);
+        Files.createDirectories(sample.getParent());
+        Files.write(sample, content);
+    }
+
+    private void seedUsers() {
+        // One hash for everybody: BCrypt at the default strength would otherwise dominate seeding time
+        String passwordHash = new BCryptPasswordEncoder().encode(USER_PASSWORD);
+        BatchWriter writer = new BatchWriter("INSERT INTO users (id, username, email, password, first_name, last_name, "
+                + "storage_used_bytes, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)");
+        for (long id = 1; id <= settings.users; id++) {
+            Timestamp createdAt = randomPastTimestamp();
+            writer.add(id, "user" + id, "user" + id + "@loadtest.local", passwordHash,
+                    "First" + id, "Last" + id, createdAt, createdAt);
+        }
+        writer.flush();
+    }
+
+    private int[] memberCounts() {
+        int[] counts = new int[settings.projects];
+        int max = Math.min(settings.maxMembersPerProject, settings.users);
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = (int) Math.max(2, Math.min(max, Math.round(max / Math.pow(i + 1, settings.memberSkew))));
+        }
+        return counts;
+    }
+
+    // Distributes total proportionally to weights; rounding leftovers go to the first (largest) entry
+    private static long[] share(long total, int[] weights) {
+        long[] asLong = new long[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            asLong[i] = weights[i];
+        }
+        return share(total, asLong);
+    }
+
+    private static long[] share(long total, long[] weights) {
+        long weightSum = 0;
+        for (long weight : weights) {
+            weightSum += weight;
+        }
+        long[] shares = new long[weights.length];
+        long assigned = 0;
+        for (int i = 0; i < weights.length; i++) {
+            shares[i] = (long) Math.floor((double) total * weights[i] / weightSum);
+            assigned += shares[i];
+        }
+        shares[0] += total - assigned;
+        return shares;
+    }
+
+    private long[] pickMembers(int count) {
+        Set<Long> picked = new HashSet<>(count * 2);
+        while (picked.size() < count) {
+            picked.add(1L + random.nextInt(settings.users));
+        }
+        return picked.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private int[] spreadOver(int taskCount, long rows) {
+        int[] perTask = new int[taskCount];
+        for (long r = 0; r < rows; r++) {
+            perTask[random.nextInt(taskCount)]++;
+        }
+        return perTask;
+    }
+
+    private void insertProject(long projectId, long[] members, long storageBytes) {
+        Timestamp createdAt = randomPastTimestamp();
+        jdbcTemplate.update("INSERT INTO projects (id, name, description, owner_id, storage_used_bytes, status, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, ?, ?, 'ACTIVE', ?, ?)",
+                projectId, "Project " + projectId, "Synthetic load-test project " + projectId, members[0], storageBytes,
+                createdAt, createdAt);
+        BatchWriter writer = new BatchWriter("INSERT INTO project_members (project_id, user_id) VALUES (?, ?)");
+        for (long member : members) {
+            writer.add(projectId, member);
+        }
+        writer.flush();
+    }
+
+    private void insertTasks(long projectId, long firstTaskId, long[] members, int[] commentsPerTask, int[] attachmentsPerTask) {
+        int taskCount = commentsPerTask.length;
+        TaskStatus[] statuses = TaskStatus.values();
+        int[] statusOf = new int[taskCount];
+        int[] perStatus = new int[statuses.length];
+        for (int t = 0; t < taskCount; t++) {
+            double roll = random.nextDouble();
+            int s = 0;
+            while (roll >= STATUS_MIX[s]) {
+                s++;
+            }
+            statusOf[t] = s;
+            perStatus[s]++;
+        }
+        List<List<String>> ranks = new ArrayList<>(statuses.length);
+        for (int count : perStatus) {
+            ranks.add(LexoRank.spread(count));
+        }
+        int[] nextRank = new int[statuses.length];
+
+        BatchWriter writer = new BatchWriter("INSERT INTO tasks (id, title, description, status, due_date, project_id, "
+                + "assignee_id, board_rank, comment_count, attachment_count, created_at, updated_at) "
+                + "VALUES (?, ?, " + LOB_TEXT + ", ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        for (int t = 0; t < taskCount; t++) {
+            long taskId = firstTaskId + t;
+            int s = statusOf[t];
+            Long assigneeId = random.nextInt(10) < 7 ? members[random.nextInt(members.length)] : null;
+            Date dueDate = random.nextBoolean() ? Date.valueOf(LocalDate.now().plusDays(random.nextInt(120) - 30)) : null;
+            Timestamp createdAt = randomPastTimestamp();
+            writer.add(taskId, "Task " + taskId, "Synthetic task " + taskId + " of project " + projectId,
+                    statuses[s].name(), dueDate, projectId, assigneeId, ranks.get(s).get(nextRank[s]++),
+                    commentsPerTask[t], attachmentsPerTask[t], createdAt, createdAt);
+        }
+        writer.flush();
+
+        BatchWriter counts = new BatchWriter("INSERT INTO project_status_counts (project_id, status, task_count) VALUES (?, ?, ?)");
+        for (int s = 0; s < statuses.length; s++) {
+            if (perStatus[s] > 0) {
+                counts.add(projectId, statuses[s].name(), perStatus[s]);
+            }
+        }
+        counts.flush();
+    }
+
+    private void insertComments(long firstTaskId, long firstCommentId, long[] members, int[] commentsPerTask) {
+        BatchWriter writer = new BatchWriter("INSERT INTO comments (id, content, task_id, author_id, created_at, updated_at) "
+                + "VALUES (?, " + LOB_TEXT + ", ?, ?, ?, ?)");
+        long commentId = firstCommentId;
+        for (int t = 0; t < commentsPerTask.length; t++) {
+            for (int c = 0; c < commentsPerTask[t]; c++) {
+                Timestamp createdAt = randomPastTimestamp();
+                writer.add(commentId, "Synthetic comment " + commentId, firstTaskId + t,
+                        members[random.nextInt(members.length)], createdAt, createdAt);
+                commentId++;
+            }
+        }
+        writer.flush();
+    }
+
+    private void insertAttachments(long firstTaskId, long firstAttachmentId, long[] members, int[] attachmentsPerTask,
+                                   long[] userStorage) {
+        BatchWriter writer = new BatchWriter("INSERT INTO attachments (id, file_name, file_type, file_path, file_size, "
+                + "task_id, uploader_id, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        long attachmentId = firstAttachmentId;
+        for (int t = 0; t < attachmentsPerTask.length; t++) {
+            for (int a = 0; a < attachmentsPerTask[t]; a++) {
+                long uploaderId = members[random.nextInt(members.length)];
+                userStorage[(int) uploaderId] += SAMPLE_ATTACHMENT_BYTES;
+                writer.add(attachmentId, "document-" + attachmentId + ".pdf", "application/pdf", SAMPLE_ATTACHMENT_PATH,
+                        (long) SAMPLE_ATTACHMENT_BYTES, firstTaskId + t, uploaderId, randomPastTimestamp());
+                attachmentId++;
+            }
+        }
+        writer.flush();
+    }
+
+    private void updateUserStorage(long[] userStorage) {
+        BatchWriter writer = new BatchWriter("UPDATE users SET storage_used_bytes = ? WHERE id = ?");
+        for (int id = 1; id < userStorage.length; id++) {
+            if (userStorage[id] > 0) {
+                writer.add(userStorage[id], (long) id);
+            }
+        }
+        writer.flush();
+    }
+
+    private Timestamp randomPastTimestamp() {
+        return Timestamp.from(now.minusSeconds((long) (random.nextDouble() * HISTORY.toSeconds())));
+    }
+
+    private class BatchWriter {
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+
+        BatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= settings.batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.taskmaster.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes the run as JSON (settings, dataset summary, per-endpoint throughput and latency percentiles in
+ * milliseconds) and logs a one-line-per-endpoint summary.
+ */
+final class LoadTestReport {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestReport.class);
+
+    private LoadTestReport() {
+    }
+
+    static void write(LoadTestSettings settings, SeededDataset dataset,
+                      Map<String, WorkloadDriver.EndpointStats> stats) throws IOException {
+        double seconds = settings.durationSeconds;
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, WorkloadDriver.EndpointStats> entry : stats.entrySet()) {
+            Histogram latency = entry.getValue().latencyMicros;
+            long errors = entry.getValue().errors.sum();
+            long requests = latency.getTotalCount() + errors;
+            totalRequests += requests;
+            totalErrors += errors;
+
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", entry.getKey());
+            endpoint.put("requests", requests);
+            endpoint.put("errors", errors);
+            Map<Integer, Long> errorStatuses = new TreeMap<>();
+            entry.getValue().errorStatuses.forEach((status, count) -> errorStatuses.put(status, count.sum()));
+            endpoint.put("errorStatuses", errorStatuses);
+            endpoint.put("throughputPerSecond", round(requests / seconds));
+            endpoint.put("latencyMs", percentiles(latency));
+            endpoints.add(endpoint);
+
+            logger.info(String.format("%-58s %8d req %9.1f req/s  p50 %7.2f  p95 %7.2f  p99 %7.2f ms  errors %d",
+                    entry.getKey(), requests, requests / seconds, millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(95)), millis(latency.getValueAtPercentile(99)), errors));
+        }
+
+        Map<String, Object> totals = new LinkedHashMap<>();
+        totals.put("requests", totalRequests);
+        totals.put("errors", totalErrors);
+        totals.put("throughputPerSecond", round(totalRequests / seconds));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("settings", settings.asMap());
+        report.put("dataset", dataset.summary());
+        report.put("totals", totals);
+        report.put("endpoints", endpoints);
+
+        Path output = settings.output.toAbsolutePath();
+        Files.createDirectories(output.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        logger.info("{} requests ({} errors, {} req/s); report written to {}", totalRequests, totalErrors,
+                round(totalRequests / seconds), output);
+    }
+
+    static Map<String, Object> percentiles(Histogram latency) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        if (latency.getTotalCount() == 0) {
+            return values;
+        }
+        values.put("min", millis(latency.getMinValue()));
+        values.put("mean", round(latency.getMean() / 1_000.0));
+        values.put("p50", millis(latency.getValueAtPercentile(50)));
+        values.put("p90", millis(latency.getValueAtPercentile(90)));
+        values.put("p95", millis(latency.getValueAtPercentile(95)));
+        values.put("p99", millis(latency.getValueAtPercentile(99)));
+        values.put("p99.9", millis(latency.getValueAtPercentile(99.9)));
+        values.put("max", millis(latency.getMaxValue()));
+        return values;
+    }
+
+    static double millis(long micros) {
+        return round(micros / 1_000.0);
+    }
+
+    static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
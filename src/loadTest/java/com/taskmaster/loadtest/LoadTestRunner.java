@@ -0,0 +1,76 @@
+package com.taskmaster.loadtest;
+
+import com.taskmaster.TaskMasterApplication;
+import com.taskmaster.security.jwt.JwtTokenProvider;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * Entry point of {@code gradle loadTest}: starts an embedded PostgreSQL, boots the application against it on a
+ * random port, seeds the synthetic dataset, drives the mixed workload and writes the JSON report.
+ */
+public class LoadTestRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Path uploadDir = Files.createTempDirectory("taskmaster-loadtest-uploads");
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            ConfigurableApplicationContext context = startApplication(postgres, uploadDir);
+            try {
+                SeededDataset dataset = new DatasetSeeder(context.getBean(JdbcTemplate.class), settings, uploadDir).seed();
+
+                WorkloadDriver driver = new WorkloadDriver(baseUrl(context), dataset, settings, tokens(context));
+
+                LoadTestReport.write(settings, dataset, driver.run());
+            } finally {
+                context.close();
+            }
+        } finally {
+            FileSystemUtils.deleteRecursively(uploadDir);
+        }
+        logger.info("Load test finished");
+    }
+
+    static ConfigurableApplicationContext startApplication(EmbeddedPostgres postgres, Path uploadDir, String... extraArgs) {
+        String jdbcUrl = postgres.getJdbcUrl("postgres", "postgres") + "&reWriteBatchedInserts=true";
+        // Command-line arguments, so they win over application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=postgres",
+                "--spring.jpa.show-sql=false",
+                "--file.upload-dir=" + uploadDir,
+                "--logging.level.com.taskmaster=WARN",
+                "--logging.level.com.taskmaster.loadtest=INFO"));
+        args.addAll(List.of(extraArgs));
+        return new SpringApplicationBuilder(TaskMasterApplication.class).run(args.toArray(String[]::new));
+    }
+
+    static String baseUrl(ConfigurableApplicationContext context) {
+        return "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    static LongFunction<String> tokens(ConfigurableApplicationContext context) {
+        JwtTokenProvider tokenProvider = context.getBean(JwtTokenProvider.class);
+        Map<Long, String> tokens = new ConcurrentHashMap<>();
+        return userId -> tokens.computeIfAbsent(userId, tokenProvider::generateTokenFromUserId);
+    }
+}
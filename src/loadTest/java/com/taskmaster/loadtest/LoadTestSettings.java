@@ -0,0 +1,103 @@
+package com.taskmaster.loadtest;
+
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load-test knobs, read from {@code loadtest.*} system properties (forwarded by the Gradle task from -P flags).
+ */
+public final class LoadTestSettings {
+
+    // Dataset
+    final int users;
+    final int projects;
+    final long tasks;
+    final long comments;
+    final long attachments;
+    final int maxMembersPerProject;
+    final double memberSkew; // Zipf exponent: project i gets ~maxMembers / (i + 1)^skew members
+    final int batchSize;
+    final long randomSeed;
+
+    // Workload
+    final int clients;
+    final int warmupSeconds;
+    final int durationSeconds;
+    final int uploadBytes;
+    final Path output;
+
+    // Thread-mode benchmark (slow uploads next to fast reads)
+    final int slowUploadClients;
+    final int readClients;
+    final int uploadBytesPerSecond;
+
+    private LoadTestSettings() {
+        users = intProperty("users", 2_000);
+        projects = intProperty("projects", 200);
+        tasks = longProperty("tasks", 200_000);
+        comments = longProperty("comments", 400_000);
+        attachments = longProperty("attachments", 40_000);
+        maxMembersPerProject = intProperty("max-members", 500);
+        memberSkew = Double.parseDouble(property("member-skew", "1.1"));
+        batchSize = intProperty("batch-size", 1_000);
+        randomSeed = longProperty("seed", 42);
+        clients = intProperty("clients", 32);
+        warmupSeconds = intProperty("warmup-seconds", 15);
+        durationSeconds = intProperty("duration-seconds", 60);
+        uploadBytes = intProperty("upload-bytes", 16 * 1024);
+        output = Path.of(property("output", "build/reports/load-test/results.json"));
+        slowUploadClients = intProperty("slow-upload-clients", 250);
+        readClients = intProperty("read-clients", 16);
+        uploadBytesPerSecond = intProperty("upload-bytes-per-second", 64 * 1024);
+
+        if (users < 2 || projects < 1 || tasks < projects || clients < 1 || durationSeconds < 1) {
+            throw new IllegalArgumentException("Need at least 2 users, 1 project, 1 task per project, 1 client and a positive duration.");
+        }
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings();
+    }
+
+    Map<String, Object> asMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("users", users);
+        map.put("projects", projects);
+        map.put("tasks", tasks);
+        map.put("comments", comments);
+        map.put("attachments", attachments);
+        map.put("maxMembersPerProject", maxMembersPerProject);
+        map.put("memberSkew", memberSkew);
+        map.put("batchSize", batchSize);
+        map.put("seed", randomSeed);
+        map.put("clients", clients);
+        map.put("warmupSeconds", warmupSeconds);
+        map.put("durationSeconds", durationSeconds);
+        map.put("uploadBytes", uploadBytes);
+        return map;
+    }
+
+    Map<String, Object> threadModeBenchmarkMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("slowUploadClients", slowUploadClients);
+        map.put("readClients", readClients);
+        map.put("uploadBytes", uploadBytes);
+        map.put("uploadBytesPerSecond", uploadBytesPerSecond);
+        map.put("warmupSeconds", warmupSeconds);
+        map.put("durationSeconds", durationSeconds);
+        return map;
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, Integer.toString(defaultValue)));
+    }
+
+    private static long longProperty(String name, long defaultValue) {
+        return Long.parseLong(property(name, Long.toString(defaultValue)));
+    }
+}
@@ -0,0 +1,63 @@
+package com.taskmaster.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Id ranges of the generated data. Tasks and attachments get contiguous ids per project, so the workload can
+ * pick a random row of a project without querying the database.
+ */
+final class SeededDataset {
+
+    record SeededProject(long id, long[] memberIds, long firstTaskId, int taskCount,
+                         long firstAttachmentId, int attachmentCount) {
+
+        long randomTaskId(ThreadLocalRandom random) {
+            return firstTaskId + random.nextInt(taskCount);
+        }
+
+        long randomAttachmentId(ThreadLocalRandom random) {
+            return firstAttachmentId + random.nextInt(attachmentCount);
+        }
+    }
+
+    record Membership(SeededProject project, long userId) {
+    }
+
+    private final List<SeededProject> projects;
+    private final long[] cumulativeMembers; // Prefix sums of member counts, for uniform picks over memberships
+    private final Map<String, Object> summary;
+
+    SeededDataset(List<SeededProject> projects, Map<String, Object> summary) {
+        this.projects = projects;
+        this.summary = new LinkedHashMap<>(summary);
+        this.cumulativeMembers = new long[projects.size()];
+        long total = 0;
+        for (int i = 0; i < projects.size(); i++) {
+            total += projects.get(i).memberIds().length;
+            cumulativeMembers[i] = total;
+        }
+    }
+
+    /**
+     * A random (project, member) pair. Larger projects have more members and therefore receive more traffic,
+     * which mirrors the skew of the seeded data.
+     */
+    Membership randomMembership(ThreadLocalRandom random) {
+        long pick = random.nextLong(cumulativeMembers[cumulativeMembers.length - 1]);
+        int index = Arrays.binarySearch(cumulativeMembers, pick + 1);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        SeededProject project = projects.get(index);
+        long[] members = project.memberIds();
+        return new Membership(project, members[random.nextInt(members.length)]);
+    }
+
+    Map<String, Object> summary() {
+        return summary;
+    }
+}
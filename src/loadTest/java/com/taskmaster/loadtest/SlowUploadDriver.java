@@ -0,0 +1,190 @@
+package com.taskmaster.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Two closed-loop client groups against one server: {@code slowUploadClients} each trickle an attachment upload at
+ * {@code uploadBytesPerSecond} (a mobile client on a poor link), while {@code readClients} issue cheap task and
+ * comment reads. With a fixed request-thread pool the slow uploads hold the threads and the reads queue behind them.
+ */
+class SlowUploadDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowUploadDriver.class);
+
+    private static final long MAX_TRACKED_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int CHUNKS_PER_SECOND = 10;
+
+    static final class GroupStats {
+        final Histogram latencyMicros = new ConcurrentHistogram(MAX_TRACKED_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final String baseUrl;
+    private final SeededDataset dataset;
+    private final LoadTestSettings settings;
+    private final LongFunction<String> tokens;
+    private final byte[] uploadContent;
+    private final GroupStats uploads = new GroupStats();
+    private final GroupStats reads = new GroupStats();
+
+    SlowUploadDriver(String baseUrl, SeededDataset dataset, LoadTestSettings settings, LongFunction<String> tokens) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.settings = settings;
+        this.tokens = tokens;
+        this.uploadContent = new byte[settings.uploadBytes];
+        ThreadLocalRandom.current().nextBytes(uploadContent);
+    }
+
+    /**
+     * Runs warm-up plus measurement and returns the statistics of the measured window by group.
+     */
+    Map<String, GroupStats> run() throws InterruptedException {
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.warmupSeconds);
+        long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(settings.durationSeconds);
+        logger.info("Driving {} slow-upload clients ({} bytes at {} B/s) and {} read clients: {}s warm-up, {}s measured",
+                settings.slowUploadClients, settings.uploadBytes, settings.uploadBytesPerSecond, settings.readClients,
+                settings.warmupSeconds, settings.durationSeconds);
+
+        CountDownLatch done = new CountDownLatch(settings.slowUploadClients + settings.readClients);
+        for (int c = 0; c < settings.slowUploadClients + settings.readClients; c++) {
+            boolean uploader = c < settings.slowUploadClients;
+            Thread client = new Thread(() -> {
+                try {
+                    clientLoop(uploader, measureFrom, measureUntil);
+                } finally {
+                    done.countDown();
+                }
+            }, (uploader ? "upload-client-" : "read-client-") + c);
+            client.setDaemon(true);
+            client.start();
+        }
+        done.await();
+
+        Map<String, GroupStats> stats = new LinkedHashMap<>();
+        stats.put("slow uploads", uploads);
+        stats.put("reads", reads);
+        return stats;
+    }
+
+    private void clientLoop(boolean uploader, long measureFrom, long measureUntil) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            long started = System.nanoTime();
+            if (started >= measureUntil) {
+                return;
+            }
+            SeededDataset.Membership actor = dataset.randomMembership(random);
+            long taskId = actor.project().randomTaskId(random);
+            HttpRequest.Builder builder = uploader
+                    ? slowUpload("/api/tasks/" + taskId + "/attachments")
+                    : get(random.nextBoolean()
+                    ? "/api/projects/" + actor.project().id() + "/tasks/" + taskId
+                    : "/api/tasks/" + taskId + "/comments?size=20");
+            HttpRequest request = builder
+                    .header("Authorization", "Bearer " + tokens.apply(actor.userId()))
+                    .timeout(Duration.ofMinutes(2))
+                    .build();
+
+            int status;
+            try {
+                status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException ex) {
+                status = -1; // Connection-level failure
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsedMicros = (System.nanoTime() - started) / 1_000;
+
+            if (started < measureFrom) {
+                continue;
+            }
+            GroupStats group = uploader ? uploads : reads;
+            if (status >= 200 && status < 400) {
+                group.latencyMicros.recordValue(Math.min(elapsedMicros, MAX_TRACKED_MICROS));
+            } else {
+                group.errors.increment();
+            }
+        }
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private HttpRequest.Builder slowUpload(String path) {
+        String boundary = "----taskmaster-slow-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        ByteArrayOutputStream body = new ByteArrayOutputStream(uploadContent.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"slow-upload.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(uploadContent);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        byte[] bytes = body.toByteArray();
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.fromPublisher(
+                        HttpRequest.BodyPublishers.ofInputStream(() -> new ThrottledInputStream(bytes, settings.uploadBytesPerSecond)),
+                        bytes.length));
+    }
+
+    // Hands out at most bytesPerSecond / CHUNKS_PER_SECOND bytes per tick
+    private static final class ThrottledInputStream extends InputStream {
+        private final InputStream content;
+        private final int chunkBytes;
+        private long nextChunkAt = System.nanoTime();
+
+        ThrottledInputStream(byte[] content, int bytesPerSecond) {
+            this.content = new ByteArrayInputStream(content);
+            this.chunkBytes = Math.max(1, bytesPerSecond / CHUNKS_PER_SECOND);
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            long waitNanos = nextChunkAt - System.nanoTime();
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException();
+                }
+            }
+            nextChunkAt = Math.max(nextChunkAt, System.nanoTime()) + TimeUnit.SECONDS.toNanos(1) / CHUNKS_PER_SECOND;
+            return content.read(buffer, offset, Math.min(length, chunkBytes));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskmaster.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entry point of {@code gradle threadModeBenchmark}: runs the slow-upload plus fast-read workload against the
+ * application on Tomcat's platform-thread pool and then with {@code app.virtual-threads.enabled=true}, on the same
+ * seeded database, and reports throughput and latency percentiles of both groups per mode.
+ */
+public class ThreadModeBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThreadModeBenchmark.class);
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<String> modes = List.of("platform", "virtual");
+
+        Path uploadDir = Files.createTempDirectory("taskmaster-loadtest-uploads");
+        List<Map<String, Object>> results = new ArrayList<>();
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            SeededDataset dataset = null;
+            for (String mode : modes) {
+                ConfigurableApplicationContext context = LoadTestRunner.startApplication(postgres, uploadDir,
+                        "--app.virtual-threads.enabled=" + mode.equals("virtual"));
+                try {
+                    if (dataset == null) {
+                        dataset = new DatasetSeeder(context.getBean(JdbcTemplate.class), settings, uploadDir).seed();
+                    }
+                    SlowUploadDriver driver = new SlowUploadDriver(LoadTestRunner.baseUrl(context), dataset, settings,
+                            LoadTestRunner.tokens(context));
+                    results.add(summarize(mode, settings, driver.run()));
+                } finally {
+                    context.close();
+                }
+            }
+        } finally {
+            FileSystemUtils.deleteRecursively(uploadDir);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("settings", settings.threadModeBenchmarkMap());
+        report.put("modes", results);
+        Path output = settings.output.toAbsolutePath();
+        Files.createDirectories(output.getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+        logger.info("Thread-mode benchmark finished; report written to {}", output);
+    }
+
+    private static Map<String, Object> summarize(String mode, LoadTestSettings settings,
+                                                 Map<String, SlowUploadDriver.GroupStats> stats) {
+        Map<String, Object> groups = new LinkedHashMap<>();
+        stats.forEach((group, groupStats) -> {
+            Histogram latency = groupStats.latencyMicros;
+            long errors = groupStats.errors.sum();
+            long requests = latency.getTotalCount() + errors;
+            double throughput = LoadTestReport.round(requests / (double) settings.durationSeconds);
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("requests", requests);
+            summary.put("errors", errors);
+            summary.put("throughputPerSecond", throughput);
+            summary.put("latencyMs", LoadTestReport.percentiles(latency));
+            groups.put(group, summary);
+
+            logger.info(String.format("%-8s %-12s %8d req %9.1f req/s  p50 %9.2f  p99 %9.2f ms  errors %d",
+                    mode, group, requests, throughput, LoadTestReport.millis(latency.getValueAtPercentile(50)),
+                    LoadTestReport.millis(latency.getValueAtPercentile(99)), errors));
+        });
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", mode);
+        result.put("groups", groups);
+        return result;
+    }
+}
@@ -0,0 +1,215 @@
+package com.taskmaster.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Closed-loop client: each of {@code clients} threads sends one request, waits for the full response and
+ * immediately sends the next, so throughput is whatever the server sustains at that concurrency. Requests are
+ * drawn from a weighted mix over the task, project, comment and attachment endpoints, acting as a random member
+ * of a random project. Only requests started after the warm-up are recorded.
+ */
+class WorkloadDriver {
+
+    private static final Logger logger = LoggerFactory.getLogger(WorkloadDriver.class);
+
+    private static final String[] STATUSES = {"OPEN", "IN_PROGRESS", "REVIEW", "COMPLETED"};
+    private static final long MAX_TRACKED_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private record Operation(String endpoint, int weight, RequestFactory factory) {
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        HttpRequest.Builder create(SeededDataset.Membership actor, ThreadLocalRandom random);
+    }
+
+    static final class EndpointStats {
+        final Histogram latencyMicros = new ConcurrentHistogram(MAX_TRACKED_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final Map<Integer, LongAdder> errorStatuses = new ConcurrentHashMap<>();
+    }
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final String baseUrl;
+    private final SeededDataset dataset;
+    private final LoadTestSettings settings;
+    private final LongFunction<String> tokens;
+    private final List<Operation> operations = new ArrayList<>();
+    private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+    private final byte[] uploadContent;
+    private int totalWeight;
+
+    WorkloadDriver(String baseUrl, SeededDataset dataset, LoadTestSettings settings, LongFunction<String> tokens) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.settings = settings;
+        this.tokens = tokens;
+        this.uploadContent = new byte[settings.uploadBytes];
+        ThreadLocalRandom.current().nextBytes(uploadContent);
+        defineMix();
+    }
+
+    private void defineMix() {
+        // ProjectController
+        add("GET /api/projects", 8, (a, r) -> get("/api/projects?page=0&size=10"));
+        add("GET /api/projects/{projectId}", 5, (a, r) -> get("/api/projects/" + a.project().id()));
+        add("GET /api/projects/{projectId}/stats", 3, (a, r) -> get("/api/projects/" + a.project().id() + "/stats"));
+        add("GET /api/projects/{projectId}/members", 2, (a, r) -> get("/api/projects/" + a.project().id() + "/members?size=50"));
+
+        // TaskController
+        add("GET /api/projects/{projectId}/tasks", 14, (a, r) -> get("/api/projects/" + a.project().id()
+                + "/tasks?page=" + r.nextInt(5) + "&size=20"));
+        add("GET /api/projects/{projectId}/tasks?status", 6, (a, r) -> get("/api/projects/" + a.project().id()
+                + "/tasks?size=20&status=" + STATUSES[r.nextInt(STATUSES.length)]));
+        add("GET /api/projects/{projectId}/board", 8, (a, r) -> get("/api/projects/" + a.project().id() + "/board?size=20"));
+        add("GET /api/projects/{projectId}/tasks/{taskId}", 12, (a, r) -> get("/api/projects/" + a.project().id()
+                + "/tasks/" + a.project().randomTaskId(r)));
+        add("GET /api/users/me/tasks", 4, (a, r) -> get("/api/users/me/tasks?size=20"));
+        add("POST /api/projects/{projectId}/tasks", 4, (a, r) -> json("POST", "/api/projects/" + a.project().id() + "/tasks",
+                "{\"title\":\"Load-test task\",\"description\":\"Created during the load test\",\"assigneeId\":" + a.userId() + "}"));
+        add("PATCH /api/projects/{projectId}/tasks/{taskId}/status", 5, (a, r) -> json("PATCH", "/api/projects/" + a.project().id()
+                + "/tasks/" + a.project().randomTaskId(r) + "/status", "{\"status\":\"" + STATUSES[r.nextInt(STATUSES.length)] + "\"}"));
+
+        // CommentController
+        add("GET /api/tasks/{taskId}/comments", 10, (a, r) -> get("/api/tasks/" + a.project().randomTaskId(r) + "/comments?size=20"));
+        add("GET /api/tasks/{taskId}/comments/scroll", 4, (a, r) -> get("/api/tasks/" + a.project().randomTaskId(r)
+                + "/comments/scroll?size=20"));
+        add("POST /api/tasks/{taskId}/comments", 5, (a, r) -> json("POST", "/api/tasks/" + a.project().randomTaskId(r) + "/comments",
+                "{\"content\":\"Load-test comment\"}"));
+
+        // AttachmentController
+        add("GET /api/tasks/{taskId}/attachments", 5, (a, r) -> get("/api/tasks/" + a.project().randomTaskId(r) + "/attachments"));
+        add("GET /api/attachments/{attachmentId}/download", 3, (a, r) -> a.project().attachmentCount() > 0
+                ? get("/api/attachments/" + a.project().randomAttachmentId(r) + "/download")
+                : get("/api/tasks/" + a.project().randomTaskId(r) + "/attachments"));
+        add("POST /api/tasks/{taskId}/attachments", 2, (a, r) -> upload("/api/tasks/" + a.project().randomTaskId(r) + "/attachments"));
+    }
+
+    private void add(String endpoint, int weight, RequestFactory factory) {
+        operations.add(new Operation(endpoint, weight, factory));
+        stats.put(endpoint, new EndpointStats());
+        totalWeight += weight;
+    }
+
+    /**
+     * Runs warm-up plus measurement and returns the per-endpoint statistics of the measured window.
+     */
+    Map<String, EndpointStats> run() throws InterruptedException {
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.warmupSeconds);
+        long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(settings.durationSeconds);
+        logger.info("Driving {} closed-loop clients: {}s warm-up, {}s measured", settings.clients,
+                settings.warmupSeconds, settings.durationSeconds);
+
+        CountDownLatch done = new CountDownLatch(settings.clients);
+        for (int c = 0; c < settings.clients; c++) {
+            Thread client = new Thread(() -> {
+                try {
+                    clientLoop(measureFrom, measureUntil);
+                } finally {
+                    done.countDown();
+                }
+            }, "load-client-" + c);
+            client.setDaemon(true);
+            client.start();
+        }
+        done.await();
+        return stats;
+    }
+
+    private void clientLoop(long measureFrom, long measureUntil) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            long started = System.nanoTime();
+            if (started >= measureUntil) {
+                return;
+            }
+            Operation operation = pick(random);
+            SeededDataset.Membership actor = dataset.randomMembership(random);
+            HttpRequest request = operation.factory().create(actor, random)
+                    .header("Authorization", "Bearer " + tokens.apply(actor.userId()))
+                    .timeout(Duration.ofSeconds(30))
+                    .build();
+
+            int status;
+            try {
+                status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (IOException ex) {
+                status = -1; // Connection-level failure
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsedMicros = (System.nanoTime() - started) / 1_000;
+
+            if (started < measureFrom) {
+                continue;
+            }
+            EndpointStats endpointStats = stats.get(operation.endpoint());
+            if (status >= 200 && status < 400) {
+                endpointStats.latencyMicros.recordValue(Math.min(elapsedMicros, MAX_TRACKED_MICROS));
+            } else {
+                endpointStats.errors.increment();
+                endpointStats.errorStatuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+            }
+        }
+    }
+
+    private Operation pick(ThreadLocalRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private HttpRequest.Builder json(String method, String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private HttpRequest.Builder upload(String path) {
+        String boundary = "----taskmaster-load-" + Long.toHexString(ThreadLocalRandom.current().nextLong());
+        ByteArrayOutputStream body = new ByteArrayOutputStream(uploadContent.length + 256);
+        body.writeBytes(("--" + boundary + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"load-test.pdf\"\r\n"
+                + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(uploadContent);
+        body.writeBytes(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()));
+    }
+}
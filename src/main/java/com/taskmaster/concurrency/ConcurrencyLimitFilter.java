@@ -0,0 +1,214 @@
+package com.taskmaster.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmaster.dto.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sheds load before it reaches the connection pool. One {@link GradientLimit} caps the requests in flight; each
+ * partition may only fill a share of it, so as the limit tightens heavy requests (uploads, downloads, searches,
+ * analytics) are rejected first, then writes, and reads last. Rejected requests get 503 with {@code Retry-After}.
+ * Actuator endpoints (health checks, metric scrapes) are never limited. Runs in the security filter chain ahead of
+ * {@code JwtAuthenticationFilter}, so shed requests cost no token parsing or user lookup.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    enum Partition {
+        READ, WRITE, HEAVY
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.concurrency-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.concurrency-limit.initial-limit:40}")
+    private int initialLimit;
+
+    @Value("${app.concurrency-limit.min-limit:8}")
+    private int minLimit;
+
+    @Value("${app.concurrency-limit.max-limit:200}")
+    private int maxLimit;
+
+    @Value("${app.concurrency-limit.write-share:0.8}")
+    private double writeShare;
+
+    @Value("${app.concurrency-limit.heavy-share:0.4}")
+    private double heavyShare;
+
+    @Value("${app.concurrency-limit.heavy-routes:}")
+    private List<String> heavyRouteSpecs;
+
+    @Value("${app.concurrency-limit.heavy-query-params:search}")
+    private List<String> heavyQueryParams;
+
+    @Value("${app.concurrency-limit.retry-after-seconds:1}")
+    private int retryAfterSeconds;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Partition, AtomicInteger> inFlightByPartition = new EnumMap<>(Partition.class);
+    private final Map<Partition, Counter> rejectedByPartition = new EnumMap<>(Partition.class);
+    private RouteMatcher heavyRoutes;
+    private GradientLimit limit;
+
+    @PostConstruct
+    public void init() {
+        limit = new GradientLimit(initialLimit, minLimit, maxLimit);
+        heavyRoutes = RouteMatcher.of(heavyRouteSpecs);
+        for (Partition partition : Partition.values()) {
+            AtomicInteger counter = new AtomicInteger();
+            inFlightByPartition.put(partition, counter);
+            String tag = partition.name().toLowerCase();
+            Gauge.builder("taskmaster.concurrency.limit", () -> allowedInFlight(partition))
+                    .description("Requests of the partition admitted at once under the current adaptive limit")
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+            Gauge.builder("taskmaster.concurrency.in.flight", counter, AtomicInteger::get)
+                    .tag("partition", tag)
+                    .register(meterRegistry);
+            rejectedByPartition.put(partition, Counter.builder("taskmaster.concurrency.rejected")
+                    .description("Requests shed with 503 by the concurrency limiter")
+                    .tag("partition", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Partition partition = classify(request);
+        if (!tryAcquire(partition)) {
+            reject(request, response, partition);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        boolean dropped = false;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                    || response.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value();
+        } catch (IOException | ServletException | RuntimeException ex) {
+            // Only timeouts mean overload; any other failure is a bug or a bad request and counts as a plain sample
+            dropped = isTimeout(ex);
+            throw ex;
+        } finally {
+            int inFlightAtEnd = inFlight.getAndDecrement();
+            inFlightByPartition.get(partition).decrementAndGet();
+            if (dropped) {
+                limit.onDropped();
+            } else if (partition != Partition.HEAVY) {
+                // Heavy requests take as long as the client's upload or download; their latency says little about the backend
+                limit.onSample(System.nanoTime() - startedAt, inFlightAtEnd);
+            }
+        }
+    }
+
+    static boolean isTimeout(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException
+                    || cause instanceof SocketTimeoutException
+                    || cause instanceof SQLTimeoutException
+                    || cause instanceof SQLTransientConnectionException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof TransactionTimedOutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Partition classify(HttpServletRequest request) {
+        if (heavyRoutes.matches(request)) {
+            return Partition.HEAVY;
+        }
+        for (String param : heavyQueryParams) {
+            if (StringUtils.hasText(request.getParameter(param))) {
+                return Partition.HEAVY;
+            }
+        }
+        String method = request.getMethod();
+        boolean read = "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method);
+        return read ? Partition.READ : Partition.WRITE;
+    }
+
+    private int allowedInFlight(Partition partition) {
+        int current = limit.getLimit();
+        return switch (partition) {
+            case READ -> current;
+            case WRITE -> Math.max(1, (int) (current * writeShare));
+            case HEAVY -> Math.max(1, (int) (current * heavyShare));
+        };
+    }
+
+    private boolean tryAcquire(Partition partition) {
+        int allowed = allowedInFlight(partition);
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                inFlightByPartition.get(partition).incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, Partition partition) throws IOException {
+        rejectedByPartition.get(partition).increment();
+        logger.debug("Shed {} {} ({} partition, limit {}, {} in flight)", request.getMethod(), request.getRequestURI(),
+                partition, limit.getLimit(), inFlight.get());
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(), HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable",
+                "The server is at capacity. Retry after " + retryAfterSeconds + " second(s).",
+                "uri=" + request.getRequestURI());
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Integer.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,84 @@
+package com.taskmaster.concurrency;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrency limit that follows observed latency, after the gradient algorithm of Netflix' concurrency-limits.
+ * A long-term average of the round-trip time is the no-queueing baseline; each sample moves the limit by
+ * {@code gradient = min(1, tolerance * longRtt / rtt)} (at least 0.5) plus a queue allowance of {@code sqrt(limit)},
+ * smoothed. While latency stays near the baseline the limit grows; once requests start queueing on the database
+ * the gradient drops below 1 and the limit shrinks. Dropped requests (errors, timeouts) back off multiplicatively.
+ */
+public class GradientLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final int LONG_WINDOW = 600;
+    private static final int WARMUP_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double estimatedLimit;
+    private volatile int limit;
+    private double longRttNanos;
+    private long samples;
+
+    public GradientLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Need 1 <= min-limit <= initial-limit <= max-limit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * @param rttNanos time the request spent in the application
+     * @param inFlight requests in flight when this one finished, itself included
+     */
+    public void onSample(long rttNanos, int inFlight) {
+        lock.lock();
+        try {
+            double rtt = Math.max(1, rttNanos);
+            samples++;
+            if (samples <= WARMUP_SAMPLES) {
+                longRttNanos += (rtt - longRttNanos) / samples; // Plain average until the window is seeded
+                return;
+            }
+            longRttNanos += (rtt - longRttNanos) * 2 / (LONG_WINDOW + 1);
+            if (longRttNanos / rtt > 2) {
+                longRttNanos *= 0.95; // Latency recovered well below the baseline: let the baseline follow quickly
+            }
+            if (inFlight < estimatedLimit / 2) {
+                return; // Far below the limit, the sample says nothing about where the limit should be
+            }
+            double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longRttNanos / rtt));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            update(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void onDropped() {
+        lock.lock();
+        try {
+            update(estimatedLimit * BACKOFF_RATIO);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void update(double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+}
@@ -0,0 +1,142 @@
+package com.taskmaster.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmaster.dto.ErrorResponse;
+import com.taskmaster.security.UserPrincipal;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-user token-bucket rate limiting for each configured route group ({@link RateLimitProperties}). Authenticated
+ * requests are keyed by the {@link UserPrincipal} id, anonymous ones by client address. Every limited response carries
+ * {@code RateLimit-Limit}, {@code RateLimit-Remaining} and {@code RateLimit-Reset}; throttled requests get 429 with
+ * {@code Retry-After}. Runs after {@code JwtAuthenticationFilter} so the principal is known.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    static final String LIMIT_HEADER = "RateLimit-Limit";
+    static final String REMAINING_HEADER = "RateLimit-Remaining";
+    static final String RESET_HEADER = "RateLimit-Reset";
+
+    private record RouteGroup(String name, RouteMatcher routes, TokenBuckets buckets, Counter throttled) {
+    }
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<RouteGroup> groups = new ArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        for (RateLimitProperties.Group group : properties.getGroups()) {
+            // Overriding one index of app.rate-limit.groups in another property source replaces the whole list
+            if (!StringUtils.hasText(group.getName()) || group.getRoutes().isEmpty()) {
+                throw new IllegalStateException("Every app.rate-limit.groups entry needs a name and routes: " + group);
+            }
+            TokenBuckets buckets = new TokenBuckets(group.getRequestsPerSecond(), group.getBurst());
+            Gauge.builder("taskmaster.rate.limit.buckets", buckets, TokenBuckets::size)
+                    .description("Token buckets currently held for the route group")
+                    .tag("group", group.getName())
+                    .register(meterRegistry);
+            Counter throttled = Counter.builder("taskmaster.rate.limit.throttled")
+                    .description("Requests rejected with 429 by the per-user rate limiter")
+                    .tag("group", group.getName())
+                    .register(meterRegistry);
+            groups.add(new RouteGroup(group.getName(), RouteMatcher.of(group.getRoutes()), buckets, throttled));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || request.getRequestURI().startsWith("/actuator/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RouteGroup group = groupFor(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Object subject = subject(request);
+        TokenBuckets.Decision decision = group.buckets().tryAcquire(subject, System.nanoTime());
+        response.setHeader(LIMIT_HEADER, Integer.toString(decision.limit()));
+        response.setHeader(REMAINING_HEADER, Integer.toString(decision.remaining()));
+        response.setHeader(RESET_HEADER, Long.toString(decision.resetSeconds()));
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        group.throttled().increment();
+        logger.debug("Throttled {} {} for {} ({} group)", request.getMethod(), request.getRequestURI(), subject, group.name());
+        ErrorResponse errorResponse = new ErrorResponse(
+                LocalDateTime.now(), HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests",
+                "Rate limit exceeded. Retry after " + decision.retryAfterSeconds() + " second(s).",
+                "uri=" + request.getRequestURI());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(decision.retryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /** Drops buckets idle for longer than {@code app.rate-limit.idle-timeout}; returns how many were removed. */
+    public int evictIdleBuckets() {
+        long now = System.nanoTime();
+        long idleNanos = properties.getIdleTimeout().toNanos();
+        int evicted = 0;
+        for (RouteGroup group : groups) {
+            evicted += group.buckets().evictIdle(now, idleNanos);
+        }
+        return evicted;
+    }
+
+    private RouteGroup groupFor(HttpServletRequest request) {
+        for (RouteGroup group : groups) {
+            if (group.routes().matches(request)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private static Object subject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return request.getRemoteAddr();
+    }
+}
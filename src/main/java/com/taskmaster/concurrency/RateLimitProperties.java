@@ -0,0 +1,34 @@
+package com.taskmaster.concurrency;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code app.rate-limit.*}: route groups are matched in order and the first match wins, so a catch-all group
+ * ({@code /api/**}) goes last. Requests matching no group are not limited.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    private List<Group> groups = new ArrayList<>();
+
+    @Data
+    public static class Group {
+        private String name;
+        // "[METHOD] ant-pattern", as for app.concurrency-limit.heavy-routes
+        private List<String> routes = new ArrayList<>();
+        private double requestsPerSecond;
+        private int burst;
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskmaster.concurrency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Matches requests against route specs of the form {@code "[METHOD] ant-pattern"}, e.g.
+ * {@code "POST /api/tasks/*}{@code /attachments"} or {@code "/api/**"} for any method.
+ */
+public final class RouteMatcher {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private record Route(String method, String pattern) {
+    }
+
+    private final List<Route> routes = new ArrayList<>();
+
+    private RouteMatcher() {
+    }
+
+    public static RouteMatcher of(List<String> specs) {
+        RouteMatcher matcher = new RouteMatcher();
+        for (String spec : specs) {
+            if (!StringUtils.hasText(spec)) {
+                continue;
+            }
+            String[] parts = spec.trim().split("\\s+", 2);
+            matcher.routes.add(parts.length == 2 ? new Route(parts[0], parts[1]) : new Route(null, parts[0]));
+        }
+        return matcher;
+    }
+
+    public boolean matches(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        for (Route route : routes) {
+            if ((route.method() == null || route.method().equalsIgnoreCase(method)) && PATH_MATCHER.match(route.pattern(), path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
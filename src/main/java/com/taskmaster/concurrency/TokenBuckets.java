@@ -0,0 +1,73 @@
+package com.taskmaster.concurrency;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * One token bucket per subject (user id or client address) for a route group, refilling at {@code requestsPerSecond}
+ * up to {@code burst} tokens. Each bucket is a single {@link AtomicLong} holding the time at which it is next full
+ * again (the GCRA form of a token bucket), so taking a token is one CAS and no lock is held on the request path.
+ * Buckets that have been full for longer than the idle timeout carry no state worth keeping and are evicted.
+ */
+public final class TokenBuckets {
+
+    public record Decision(boolean allowed, int limit, int remaining, long resetSeconds, long retryAfterSeconds) {
+    }
+
+    private final ConcurrentMap<Object, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int burst;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+
+    public TokenBuckets(double requestsPerSecond, int burst) {
+        if (requestsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("requestsPerSecond must be > 0 and burst >= 1");
+        }
+        this.burst = burst;
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+        this.burstNanos = emissionIntervalNanos * burst;
+    }
+
+    public Decision tryAcquire(Object subject, long nowNanos) {
+        AtomicLong fullAt = buckets.get(subject);
+        if (fullAt == null) {
+            fullAt = buckets.computeIfAbsent(subject, s -> new AtomicLong(nowNanos));
+        }
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long excess = next - nowNanos - burstNanos;
+            if (excess > 0) {
+                return new Decision(false, burst, 0, seconds(current - nowNanos), Math.max(1, seconds(excess)));
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                int remaining = (int) ((burstNanos - (next - nowNanos)) / emissionIntervalNanos);
+                return new Decision(true, burst, remaining, seconds(next - nowNanos), 0);
+            }
+        }
+    }
+
+    /**
+     * Removes buckets that have been full for at least {@code idleNanos}; returns how many were removed. A request
+     * racing the removal takes its token from the dropped bucket, which costs at most one extra token.
+     */
+    public int evictIdle(long nowNanos, long idleNanos) {
+        int evicted = 0;
+        for (var entry : buckets.entrySet()) {
+            if (nowNanos - entry.getValue().get() >= idleNanos && buckets.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private static long seconds(long nanos) {
+        return nanos <= 0 ? 0 : (nanos + 999_999_999) / 1_000_000_000;
+    }
+}
@@ -0,0 +1,19 @@
+package com.taskmaster.concurrency;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual-thread factories shared by the request, scheduling and project-deletion executors of the virtual-thread mode.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * A factory for unstarted virtual threads named {@code <namePrefix>0}, {@code <namePrefix>1}, ...
+     */
+    public static ThreadFactory factory(String namePrefix) {
+        return Thread.ofVirtual().name(namePrefix, 0).factory();
+    }
+}
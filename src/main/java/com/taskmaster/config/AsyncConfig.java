@@ -0,0 +1,63 @@
+package com.taskmaster.config;
+
+import com.taskmaster.concurrency.VirtualThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    // Bounded pool for CPU-heavy image work, shared by upload pre-generation and on-demand requests; when the queue is
+    // full submissions are rejected (on demand: 503). Stays on platform threads in virtual-thread mode.
+    @Bean(name = "thumbnailExecutor")
+    public ThreadPoolTaskExecutor thumbnailExecutor(
+            @Value("${app.thumbnail.worker-threads:2}") int workerThreads,
+            @Value("${app.thumbnail.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // Project deletions run one chunk at a time on a small dedicated pool so they never compete with request threads.
+    // They only wait on the database, so in virtual-thread mode the pool keeps its size and queue but not its carriers.
+    @Bean(name = "projectDeletionExecutor")
+    public ThreadPoolTaskExecutor projectDeletionExecutor(
+            @Value("${app.project-deletion.worker-threads:1}") int workerThreads,
+            @Value("${app.project-deletion.queue-capacity:100}") int queueCapacity,
+            @Value("${app.virtual-threads.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        if (virtualThreads) {
+            executor.setThreadFactory(VirtualThreads.factory("project-deletion-"));
+        }
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("project-deletion-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    // Password hashing (BCrypt) is deliberately CPU-bound; this pool caps how many cores login and registration can
+    // take at once (worker-threads=0: half the available processors). Platform threads in every mode.
+    @Bean(name = "passwordHashExecutor")
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${app.password-hash.worker-threads:0}") int workerThreads,
+            @Value("${app.password-hash.queue-capacity:200}") int queueCapacity) {
+        int threads = workerThreads > 0 ? workerThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmaster.config;
+
+import com.taskmaster.diagnostics.jfr.TaskmasterEvents;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+// Without this the custom events stay unregistered and every begin()/commit() on them is a no-op
+@Configuration
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(JfrConfig.class);
+
+    @PostConstruct
+    public void registerEvents() {
+        TaskmasterEvents.register();
+        logger.info("Registered {} JFR event types", TaskmasterEvents.TYPES.size());
+    }
+
+    @PreDestroy
+    public void unregisterEvents() {
+        TaskmasterEvents.unregister();
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmaster.config;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class MetricsConfig {
+
+    // Hikari publishes raw hikaricp.connections.* gauges; these two answer "is the pool the bottleneck" directly
+    @Bean
+    public MeterBinder connectionPoolSaturationMetrics(DataSource dataSource) {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+        return registry -> {
+            if (hikari == null) {
+                return;
+            }
+            Gauge.builder("taskmaster.db.pool.saturation", hikari,
+                            pool(p -> (double) p.getActiveConnections() / hikari.getMaximumPoolSize()))
+                    .description("Share of the maximum pool size currently checked out (1 = saturated)")
+                    .register(registry);
+            Gauge.builder("taskmaster.db.pool.waiting.threads", hikari, pool(HikariPoolMXBean::getThreadsAwaitingConnection))
+                    .description("Threads blocked waiting for a connection")
+                    .register(registry);
+        };
+    }
+
+    // The pool MXBean only exists once the pool has started
+    private static ToDoubleFunction<HikariDataSource> pool(ToDoubleFunction<HikariPoolMXBean> value) {
+        return dataSource -> {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? value.applyAsDouble(pool) : 0;
+        };
+    }
+}
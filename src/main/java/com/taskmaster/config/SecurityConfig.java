@@ -1,11 +1,20 @@
 package com.taskmaster.config; // Updated package
 
+import com.taskmaster.concurrency.ConcurrencyLimitFilter;
+import com.taskmaster.concurrency.RateLimitFilter;
+import com.taskmaster.security.BoundedPasswordEncoder;
 import com.taskmaster.security.CustomUserDetailsService; // Updated import
+import com.taskmaster.security.ManagementPortRequestMatcher;
+import com.taskmaster.security.PasswordHashCost;
 import com.taskmaster.security.jwt.JwtAuthenticationFilter; // Updated import
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -13,13 +22,18 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
@@ -31,16 +45,36 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Autowired
+    private ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    @Autowired
+    private RateLimitFilter rateLimitFilter;
+
+    @Autowired
+    private ManagementPortRequestMatcher managementPortRequestMatcher;
+
     private static final String[] PUBLIC_ENDPOINTS = {
             "/api/auth/**",
             "/v3/api-docs/**",
             "/swagger-ui/**",
-            "/swagger-ui.html"
+            "/swagger-ui.html",
+            "/actuator/health",
+            "/livez",
+            "/readyz"
     };
 
+    // New hashes are "{bcrypt}" at the target cost; hashes stored before the prefix existed still match via the default
+    // and are reported by upgradeEncoding(), like those below the target cost, so logins rehash them
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashCost passwordHashCost,
+                                           @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor passwordHashExecutor,
+                                           @Value("${app.password-hash.timeout-ms:10000}") long timeoutMillis,
+                                           MeterRegistry meterRegistry) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(passwordHashCost.getTargetCost());
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new BoundedPasswordEncoder(delegating, passwordHashExecutor, timeoutMillis, meterRegistry);
     }
 
     @Bean
@@ -49,7 +83,7 @@ public class SecurityConfig {
     }
 
     @Bean
-    public CorsFilter corsFilter() {
+    public CorsConfigurationSource corsConfigurationSource() {
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowCredentials(true);
@@ -57,22 +91,32 @@ public class SecurityConfig {
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
         source.registerCorsConfiguration("/**", config);
-        return new CorsFilter(source);
+        return source;
+    }
+
+    @Bean
+    public CorsFilter corsFilter() {
+        return new CorsFilter(corsConfigurationSource());
     }
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
-                .cors(cors -> cors.configurationSource(corsFilter().getCorsConfigurationSource()))
+                .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authorize -> authorize
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+                        // Metrics reveal routes, traffic and failure counts: open only on the internal management port
+                        .requestMatchers(new AndRequestMatcher(managementPortRequestMatcher,
+                                new AntPathRequestMatcher("/actuator/prometheus"))).permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/attachments/*/download").permitAll() // Example
                         .anyRequest().authenticated()
                 );
 
         http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(concurrencyLimitFilter, JwtAuthenticationFilter.class); // Shed before any token or user lookup
+        http.addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class); // Needs the authenticated principal
 
         return http.build();
     }
@@ -0,0 +1,45 @@
+package com.taskmaster.config;
+
+import com.taskmaster.diagnostics.InstrumentedDataSource;
+import com.taskmaster.diagnostics.SqlDiagnosticsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "app.sql-diagnostics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlDiagnosticsConfig {
+
+    // Static so the post-processor exists before the DataSource is created
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    // Ahead of the security filter chain, so the user lookup in JwtAuthenticationFilter is counted too
+    @Bean
+    public FilterRegistrationBean<SqlDiagnosticsFilter> sqlDiagnosticsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.sql-diagnostics.response-headers:false}") boolean responseHeaders,
+            @Value("${app.sql-diagnostics.repeat-threshold:10}") int repeatThreshold) {
+        FilterRegistrationBean<SqlDiagnosticsFilter> registration =
+                new FilterRegistrationBean<>(new SqlDiagnosticsFilter(meterRegistry, responseHeaders, repeatThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
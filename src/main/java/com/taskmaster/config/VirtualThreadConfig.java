@@ -0,0 +1,87 @@
+package com.taskmaster.config;
+
+import com.taskmaster.concurrency.ConnectionPermitDataSource;
+import com.taskmaster.concurrency.VirtualThreads;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.task.TaskSchedulerCustomizer;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Opt-in mode (app.virtual-threads.enabled) that serves requests and runs the scheduled jobs and
+ * project deletions on virtual threads, so requests blocked on JDBC or file I/O no longer hold one of Tomcat's
+ * 200 platform threads. Database concurrency is bounded by a permit per pooled connection instead.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadConfig.class);
+
+    public VirtualThreadConfig() {
+        logger.info("Serving requests and background jobs on virtual threads");
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+    }
+
+    @Bean
+    public TaskSchedulerCustomizer virtualThreadTaskSchedulerCustomizer() {
+        return scheduler -> scheduler.setThreadFactory(VirtualThreads.factory("scheduling-"));
+    }
+
+    // Static so the post-processor exists before the DataSource is created
+    @Bean
+    public static BeanPostProcessor connectionPermitDataSourcePostProcessor(
+            @Value("${app.virtual-threads.db-permits:0}") int configuredPermits,
+            @Value("${app.virtual-threads.db-acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionPermitDataSource) {
+                    return bean;
+                }
+                int permits = configuredPermits;
+                if (permits <= 0) {
+                    HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+                    if (hikari == null) {
+                        throw new IllegalStateException("Set app.virtual-threads.db-permits; the pool size of "
+                                + dataSource.getClass().getName() + " is unknown");
+                    }
+                    permits = hikari.getMaximumPoolSize();
+                }
+                logger.info("Limiting DataSource '{}' to {} concurrent connections", beanName, permits);
+                return new ConnectionPermitDataSource(dataSource, permits, acquireTimeoutMillis);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionPermitMetrics(DataSource dataSource) throws SQLException {
+        ConnectionPermitDataSource permits = dataSource.unwrap(ConnectionPermitDataSource.class);
+        return registry -> {
+            Gauge.builder("taskmaster.db.permits.available", permits, ConnectionPermitDataSource::getAvailablePermits)
+                    .description("Connection permits not in use")
+                    .register(registry);
+            Gauge.builder("taskmaster.db.permits.waiting.threads", permits, ConnectionPermitDataSource::getWaitingThreads)
+                    .description("Threads queued for a connection permit")
+                    .register(registry);
+        };
+    }
+}
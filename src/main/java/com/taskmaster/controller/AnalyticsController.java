@@ -0,0 +1,42 @@
+package com.taskmaster.controller;
+
+import com.taskmaster.dto.analytics.CycleTimeResponse;
+import com.taskmaster.dto.analytics.FlowResponse;
+import com.taskmaster.security.UserPrincipal;
+import com.taskmaster.service.AnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}/analytics")
+public class AnalyticsController {
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @GetMapping("/cycle-time")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CycleTimeResponse> getCycleTime(
+            @PathVariable Long projectId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(analyticsService.getCycleTime(projectId, from, to, currentUser.getId()));
+    }
+
+    @GetMapping("/flow")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<FlowResponse> getFlow(
+            @PathVariable Long projectId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(analyticsService.getFlow(projectId, from, to, currentUser.getId()));
+    }
+}
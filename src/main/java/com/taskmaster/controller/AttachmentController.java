@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -19,6 +20,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api")
@@ -83,6 +85,21 @@ public class AttachmentController {
                 .body(resource);
     }
 
+    @GetMapping("/attachments/{attachmentId}/thumbnail")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Resource> downloadThumbnail(
+            @PathVariable Long attachmentId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        Resource resource = attachmentService.getAttachmentThumbnail(attachmentId, currentUser.getId());
+
+        // A thumbnail never changes for a given attachment ID, so clients may keep it indefinitely
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable())
+                .body(resource);
+    }
+
     @DeleteMapping("/attachments/{attachmentId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> deleteAttachment(
@@ -1,8 +1,10 @@
 package com.taskmaster.controller;
 
 import com.taskmaster.dto.auth.JwtAuthenticationResponse; // Updated import
+import com.taskmaster.dto.auth.LoginRequest;
 import com.taskmaster.dto.auth.RegisterRequest; // Updated import
 import com.taskmaster.service.AuthService; // Updated import
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -19,8 +21,9 @@ public class AuthController {
     private AuthService authService;
 
     @PostMapping("/login")
-    public ResponseEntity<JwtAuthenticationResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest) {
-        String jwt = authService.authenticateUser(loginRequest);
+    public ResponseEntity<JwtAuthenticationResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest,
+                                                                      HttpServletRequest request) {
+        String jwt = authService.authenticateUser(loginRequest, request.getRemoteAddr());
         return ResponseEntity.ok(new JwtAuthenticationResponse(jwt));
     }
 
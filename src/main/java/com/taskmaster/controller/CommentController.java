@@ -1,5 +1,6 @@
 package com.taskmaster.controller;
 
+import com.taskmaster.dto.CursorPagedResponse;
 import com.taskmaster.dto.PagedResponse;
 import com.taskmaster.dto.comment.CommentCreateRequest;
 import com.taskmaster.dto.comment.CommentResponse;
@@ -50,6 +51,18 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    @GetMapping("/tasks/{taskId}/comments/scroll")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPagedResponse<CommentResponse>> scrollCommentsForTask(
+            @PathVariable Long taskId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        int pageSize = Math.max(1, Math.min(size, 100));
+        CursorPagedResponse<CommentResponse> comments = commentService.scrollCommentsByTaskId(taskId, currentUser.getId(), cursor, pageSize);
+        return ResponseEntity.ok(comments);
+    }
+
     @DeleteMapping("/comments/{commentId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> deleteComment(
@@ -1,10 +1,17 @@
 package com.taskmaster.controller;
 
+import com.taskmaster.dto.CursorPagedResponse;
 import com.taskmaster.dto.PagedResponse;
 import com.taskmaster.dto.project.AddMemberRequest;
+import com.taskmaster.dto.project.BulkMembersRequest;
+import com.taskmaster.dto.project.BulkMembersResponse;
 import com.taskmaster.dto.project.ProjectCreateRequest;
+import com.taskmaster.dto.project.ProjectDeletionResponse;
 import com.taskmaster.dto.project.ProjectResponse;
+import com.taskmaster.dto.project.ProjectStatusCountsResponse;
+import com.taskmaster.dto.user.UserSummaryResponse;
 import com.taskmaster.security.UserPrincipal;
+import com.taskmaster.service.ProjectDeletionService;
 import com.taskmaster.service.ProjectService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +31,9 @@ public class ProjectController {
     @Autowired
     private ProjectService projectService;
 
+    @Autowired
+    private ProjectDeletionService projectDeletionService;
+
     @PostMapping
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ProjectResponse> createProject(
@@ -40,12 +50,13 @@ public class ProjectController {
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
             @RequestParam(value = "sortDir", defaultValue = "desc") String sortDir,
+            @RequestParam(value = "includeStats", defaultValue = "false") boolean includeStats,
             @AuthenticationPrincipal UserPrincipal currentUser) {
 
         Sort.Direction direction = sortDir.equalsIgnoreCase("asc") ? Sort.Direction.ASC : Sort.Direction.DESC;
         // TODO: Validate sortBy field
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
-        PagedResponse<ProjectResponse> projects = projectService.getProjectsForUser(currentUser.getId(), pageable);
+        PagedResponse<ProjectResponse> projects = projectService.getProjectsForUser(currentUser.getId(), pageable, includeStats);
         return ResponseEntity.ok(projects);
     }
 
@@ -58,6 +69,14 @@ public class ProjectController {
         return ResponseEntity.ok(project);
     }
 
+    @GetMapping("/{projectId}/stats")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ProjectStatusCountsResponse> getProjectStats(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(projectService.getProjectStatusCounts(projectId, currentUser.getId()));
+    }
+
     @PutMapping("/{projectId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<ProjectResponse> updateProject(
@@ -70,15 +89,35 @@ public class ProjectController {
 
     @DeleteMapping("/{projectId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<?> deleteProject(
+    public ResponseEntity<ProjectDeletionResponse> deleteProject(
             @PathVariable Long projectId,
             @AuthenticationPrincipal UserPrincipal currentUser) {
-        projectService.deleteProject(projectId, currentUser.getId());
-        return ResponseEntity.noContent().build();
+        ProjectDeletionResponse deletion = projectService.deleteProject(projectId, currentUser.getId());
+        return ResponseEntity.accepted().body(deletion); // Purged in the background; poll /deletion for progress
+    }
+
+    @GetMapping("/{projectId}/deletion")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ProjectDeletionResponse> getProjectDeletion(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(projectDeletionService.getDeletion(projectId, currentUser.getId()));
     }
 
     // --- Member Management ---
 
+    @GetMapping("/{projectId}/members")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPagedResponse<UserSummaryResponse>> getMembers(
+            @PathVariable Long projectId,
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "50") int size,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        int pageSize = Math.max(1, Math.min(size, 200));
+        return ResponseEntity.ok(projectService.getProjectMembers(projectId, currentUser.getId(), query, cursor, pageSize));
+    }
+
     @PostMapping("/{projectId}/members")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<?> addMember(
@@ -98,4 +137,22 @@ public class ProjectController {
         projectService.removeMemberFromProject(projectId, userIdToRemove, currentUser.getId());
         return ResponseEntity.ok("Member removed successfully."); // Or use noContent()
     }
+
+    @PostMapping("/{projectId}/members/bulk")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<BulkMembersResponse> addMembers(
+            @PathVariable Long projectId,
+            @Valid @RequestBody BulkMembersRequest bulkRequest,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(projectService.addMembersToProject(projectId, bulkRequest.getUserIds(), currentUser.getId()));
+    }
+
+    @PostMapping("/{projectId}/members/bulk-remove")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<BulkMembersResponse> removeMembers(
+            @PathVariable Long projectId,
+            @Valid @RequestBody BulkMembersRequest bulkRequest,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(projectService.removeMembersFromProject(projectId, bulkRequest.getUserIds(), currentUser.getId()));
+    }
 }
\ No newline at end of file
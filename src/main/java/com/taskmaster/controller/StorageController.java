@@ -0,0 +1,35 @@
+package com.taskmaster.controller;
+
+import com.taskmaster.dto.storage.StorageUsageResponse;
+import com.taskmaster.security.UserPrincipal;
+import com.taskmaster.service.StorageQuotaService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api")
+public class StorageController {
+
+    @Autowired
+    private StorageQuotaService storageQuotaService;
+
+    @GetMapping("/projects/{projectId}/storage")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StorageUsageResponse> getProjectStorageUsage(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(storageQuotaService.getProjectUsage(projectId, currentUser.getId()));
+    }
+
+    @GetMapping("/users/me/storage")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StorageUsageResponse> getMyStorageUsage(@AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(storageQuotaService.getUserUsage(currentUser.getId()));
+    }
+}
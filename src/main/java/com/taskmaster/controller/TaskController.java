@@ -1,7 +1,12 @@
 package com.taskmaster.controller;
 
 import com.taskmaster.dto.PagedResponse;
+import com.taskmaster.dto.task.BoardColumnResponse;
+import com.taskmaster.dto.task.BoardResponse;
+import com.taskmaster.dto.task.SubtreeStatsResponse;
 import com.taskmaster.dto.task.TaskCreateRequest;
+import com.taskmaster.dto.task.TaskParentRequest;
+import com.taskmaster.dto.task.TaskPositionRequest;
 import com.taskmaster.dto.task.TaskResponse;
 import com.taskmaster.dto.task.TaskStatusUpdateRequest; // Create this DTO { TaskStatus status; }
 import com.taskmaster.dto.task.TaskUpdateRequest; // Create this DTO
@@ -35,6 +40,7 @@ public class TaskController {
             @PathVariable Long projectId,
             @RequestParam(value = "status", required = false) String status,
             @RequestParam(value = "search", required = false) String searchTerm,
+            @RequestParam(value = "subtreeOf", required = false) Long subtreeOf, // A task and its descendants
             @RequestParam(value = "page", defaultValue = "0") int page,
             @RequestParam(value = "size", defaultValue = "10") int size,
             @RequestParam(value = "sortBy", defaultValue = "createdAt") String sortBy,
@@ -46,10 +52,32 @@ public class TaskController {
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
         PagedResponse<TaskResponse> tasks = taskService.getTasksByProjectId(
-                projectId, currentUser.getId(), status, searchTerm, pageable);
+                projectId, currentUser.getId(), status, searchTerm, subtreeOf, pageable);
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping("/projects/{projectId}/board")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<BoardResponse> getBoard(
+            @PathVariable Long projectId,
+            @RequestParam(value = "size", defaultValue = "20") int size, // Cards per column
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        int perColumn = Math.max(1, Math.min(size, 100));
+        return ResponseEntity.ok(taskService.getBoard(projectId, currentUser.getId(), perColumn));
+    }
+
+    @GetMapping("/projects/{projectId}/board/{status}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<BoardColumnResponse> getBoardColumn(
+            @PathVariable Long projectId,
+            @PathVariable TaskStatus status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        int pageSize = Math.max(1, Math.min(size, 100));
+        return ResponseEntity.ok(taskService.getBoardColumn(projectId, status, currentUser.getId(), cursor, pageSize));
+    }
+
     @GetMapping("/users/me/tasks")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<PagedResponse<TaskResponse>> getMyAssignedTasks(
@@ -76,6 +104,15 @@ public class TaskController {
         return ResponseEntity.ok(task);
     }
 
+    @GetMapping("/projects/{projectId}/tasks/{taskId}/subtree-stats")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<SubtreeStatsResponse> getSubtreeStats(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(taskService.getSubtreeStats(projectId, taskId, currentUser.getId()));
+    }
+
     // --- Create Task ---
 
     @PostMapping("/projects/{projectId}/tasks")
@@ -116,6 +153,34 @@ public class TaskController {
         return ResponseEntity.ok(updatedTask);
     }
 
+    // --- Move Task on the Board (Partial Update) ---
+
+    @PatchMapping("/projects/{projectId}/tasks/{taskId}/position")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskResponse> moveTask(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @Valid @RequestBody TaskPositionRequest positionRequest, // Neighbours after the move
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        TaskResponse movedTask = taskService.moveTask(projectId, taskId, positionRequest, currentUser.getId());
+        return ResponseEntity.ok(movedTask);
+    }
+
+    // --- Move Task under another Parent (Partial Update) ---
+
+    @PatchMapping("/projects/{projectId}/tasks/{taskId}/parent")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskResponse> moveTaskToParent(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @RequestBody TaskParentRequest parentRequest, // parentId null moves the task to the top level
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        TaskResponse movedTask = taskService.moveTaskToParent(projectId, taskId, parentRequest.getParentId(), currentUser.getId());
+        return ResponseEntity.ok(movedTask);
+    }
+
     // --- Assign Task (Partial Update) ---
 
     @PatchMapping("/projects/{projectId}/tasks/{taskId}/assignee")
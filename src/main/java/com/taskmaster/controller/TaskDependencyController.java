@@ -0,0 +1,80 @@
+package com.taskmaster.controller;
+
+import com.taskmaster.dto.task.TaskDependencyRequest;
+import com.taskmaster.dto.task.TaskSummaryResponse;
+import com.taskmaster.security.UserPrincipal;
+import com.taskmaster.service.TaskDependencyService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/projects/{projectId}")
+public class TaskDependencyController {
+
+    private static final int MAX_TRAVERSAL_RESULTS = 10000;
+
+    @Autowired
+    private TaskDependencyService taskDependencyService;
+
+    @PostMapping("/tasks/{taskId}/dependencies")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskSummaryResponse>> addDependency(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @Valid @RequestBody TaskDependencyRequest dependencyRequest,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        List<TaskSummaryResponse> blockers = taskDependencyService.addDependency(
+                projectId, taskId, dependencyRequest.getBlockedByTaskId(), currentUser.getId());
+        return new ResponseEntity<>(blockers, HttpStatus.CREATED);
+    }
+
+    @DeleteMapping("/tasks/{taskId}/dependencies/{blockedByTaskId}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<?> removeDependency(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @PathVariable Long blockedByTaskId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        taskDependencyService.removeDependency(projectId, taskId, blockedByTaskId, currentUser.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/tasks/{taskId}/blocked-by")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskSummaryResponse>> getBlockers(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @RequestParam(value = "transitive", defaultValue = "true") boolean transitive,
+            @RequestParam(value = "limit", defaultValue = "1000") int limit,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        int maxResults = Math.max(1, Math.min(limit, MAX_TRAVERSAL_RESULTS));
+        return ResponseEntity.ok(taskDependencyService.getBlockers(projectId, taskId, transitive, maxResults, currentUser.getId()));
+    }
+
+    @GetMapping("/tasks/{taskId}/blocks")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskSummaryResponse>> getDependents(
+            @PathVariable Long projectId,
+            @PathVariable Long taskId,
+            @RequestParam(value = "transitive", defaultValue = "true") boolean transitive,
+            @RequestParam(value = "limit", defaultValue = "1000") int limit,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        int maxResults = Math.max(1, Math.min(limit, MAX_TRAVERSAL_RESULTS));
+        return ResponseEntity.ok(taskDependencyService.getDependents(projectId, taskId, transitive, maxResults, currentUser.getId()));
+    }
+
+    @GetMapping("/critical-path")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskSummaryResponse>> getCriticalPath(
+            @PathVariable Long projectId,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+        return ResponseEntity.ok(taskDependencyService.getCriticalPath(projectId, currentUser.getId()));
+    }
+}
@@ -0,0 +1,154 @@
+package com.taskmaster.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Wraps the pooled DataSource so that statements executed, rows fetched and time spent in JDBC are added to the
+ * thread's {@link SqlStatementStats}. Outside a stats scope the proxies only forward calls.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    public InstrumentedDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private abstract static class ForwardingHandler implements InvocationHandler {
+        final Object target;
+
+        ForwardingHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return handle(proxy, method, args);
+            }
+        }
+
+        abstract Object handle(Object proxy, Method method, Object[] args) throws Throwable;
+
+        Object forward(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                throw ex.getCause();
+            }
+        }
+    }
+
+    private static class ConnectionHandler extends ForwardingHandler {
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = forward(method, args);
+            Connection connection = (Connection) proxy;
+            if (result instanceof CallableStatement callable) {
+                return proxy(CallableStatement.class, new StatementHandler(callable, connection, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement prepared) {
+                return proxy(PreparedStatement.class, new StatementHandler(prepared, connection, (String) args[0]));
+            }
+            if (result instanceof Statement statement) {
+                return proxy(Statement.class, new StatementHandler(statement, connection, null));
+            }
+            return result;
+        }
+    }
+
+    private static class StatementHandler extends ForwardingHandler {
+        private final Connection connection;
+        private final String preparedSql;
+
+        StatementHandler(Statement target, Connection connection, String preparedSql) {
+            super(target);
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            SqlStatementStats stats = SqlStatementStats.current();
+            Object result;
+            if (stats != null && name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+                long started = System.nanoTime();
+                try {
+                    result = forward(method, args);
+                } finally {
+                    stats.recordStatement(sql, System.nanoTime() - started);
+                }
+            } else {
+                result = forward(method, args);
+            }
+            if (result instanceof ResultSet resultSet) {
+                return proxy(ResultSet.class, new ResultSetHandler(resultSet, (Statement) proxy));
+            }
+            return result;
+        }
+    }
+
+    private static class ResultSetHandler extends ForwardingHandler {
+        private final Statement statement;
+
+        ResultSetHandler(ResultSet target, Statement statement) {
+            super(target);
+            this.statement = statement;
+        }
+
+        @Override
+        Object handle(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getStatement")) {
+                return statement;
+            }
+            SqlStatementStats stats = SqlStatementStats.current();
+            if (stats != null && name.equals("next")) {
+                long started = System.nanoTime();
+                boolean hasRow = (Boolean) forward(method, args);
+                stats.recordFetch(hasRow, System.nanoTime() - started);
+                return hasRow;
+            }
+            return forward(method, args);
+        }
+    }
+}
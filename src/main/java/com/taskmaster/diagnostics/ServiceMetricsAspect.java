@@ -0,0 +1,53 @@
+package com.taskmaster.diagnostics;
+
+import com.taskmaster.diagnostics.jfr.ServiceInvocationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the {@code *ServiceImpl} beans as {@code taskmaster.service.invocations}, tagged like
+ * Spring Data's {@code spring.data.repository.invocations} (service, method, state, exception), and emits a matching
+ * {@link ServiceInvocationEvent} for flight recordings. Calls a service makes to its own methods bypass the proxy and
+ * are included in the caller's time.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Around("execution(public * com.taskmaster.service.impl.*ServiceImpl.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ServiceInvocationEvent event = new ServiceInvocationEvent();
+        event.begin();
+        String exception = "None";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.exception = "None".equals(exception) ? null : exception;
+                event.commit();
+            }
+            sample.stop(Timer.builder("taskmaster.service.invocations")
+                    .description("Duration of service method invocations")
+                    .tag("service", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("state", "None".equals(exception) ? "SUCCESS" : "ERROR")
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.taskmaster.diagnostics;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Statement budgets for tests. Either measure code on the calling thread:
+ * <pre>
+ *     SqlBudget.statements(3).repeats(1).run(() -> taskService.getTaskById(projectId, taskId, userId));
+ * </pre>
+ * or check an HTTP response served with {@code app.sql-diagnostics.response-headers=true}:
+ * <pre>
+ *     SqlBudget.statements(4).rows(25).verify(response::getHeader);             // MockMvc
+ *     SqlBudget.statements(4).verify(entity.getHeaders()::getFirst);            // TestRestTemplate
+ * </pre>
+ * A breach throws {@link AssertionError} listing the statement shapes that ran.
+ */
+public final class SqlBudget {
+
+    private int maxStatements = Integer.MAX_VALUE;
+    private long maxRows = Long.MAX_VALUE;
+    private int maxRepeats = Integer.MAX_VALUE;
+
+    private SqlBudget() {
+    }
+
+    public static SqlBudget statements(int max) {
+        SqlBudget budget = new SqlBudget();
+        budget.maxStatements = max;
+        return budget;
+    }
+
+    public SqlBudget rows(long max) {
+        this.maxRows = max;
+        return this;
+    }
+
+    /**
+     * Maximum executions of any single statement shape; 1 forbids repeating a query.
+     */
+    public SqlBudget repeats(int max) {
+        this.maxRepeats = max;
+        return this;
+    }
+
+    public <T> T run(Supplier<T> work) {
+        SqlStatementStats stats = SqlStatementStats.begin();
+        T result;
+        try {
+            result = work.get();
+        } finally {
+            stats.end();
+        }
+        check(stats.getStatements(), stats.getRowsFetched(), stats.getMaxRepeats(), stats.getStatementShapes());
+        return result;
+    }
+
+    public void run(Runnable work) {
+        run(() -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Checks the X-SQL-* headers of a response; {@code headers} maps a header name to its value.
+     */
+    public void verify(Function<String, String> headers) {
+        String statements = headers.apply(SqlDiagnosticsFilter.STATEMENTS_HEADER);
+        if (statements == null) {
+            throw new AssertionError("Response has no " + SqlDiagnosticsFilter.STATEMENTS_HEADER
+                    + " header; enable app.sql-diagnostics.response-headers");
+        }
+        check(Integer.parseInt(statements), Long.parseLong(headers.apply(SqlDiagnosticsFilter.ROWS_HEADER)),
+                Integer.parseInt(headers.apply(SqlDiagnosticsFilter.MAX_REPEATS_HEADER)), null);
+    }
+
+    private void check(int statements, long rows, int repeats, Map<String, Integer> shapes) {
+        StringBuilder failures = new StringBuilder();
+        if (statements > maxStatements) {
+            failures.append(String.format("%d statements executed, budget is %d. ", statements, maxStatements));
+        }
+        if (rows > maxRows) {
+            failures.append(String.format("%d rows fetched, budget is %d. ", rows, maxRows));
+        }
+        if (repeats > maxRepeats) {
+            failures.append(String.format("A statement ran %d times, budget is %d. ", repeats, maxRepeats));
+        }
+        if (failures.length() == 0) {
+            return;
+        }
+        if (shapes != null) {
+            failures.append("Statements:");
+            shapes.forEach((shape, count) -> failures.append(String.format("%n  %4dx %s", count, shape)));
+        }
+        throw new AssertionError(failures.toString().trim());
+    }
+}
@@ -0,0 +1,97 @@
+package com.taskmaster.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opens a {@link SqlStatementStats} scope around each request, records the totals as metrics tagged by handler
+ * pattern and warns when one statement shape runs more often than the repeat threshold (a likely N+1).
+ * In diagnostic mode the totals are also returned as X-SQL-* headers; that mode buffers the response body so the
+ * headers can still be set after the handler has run.
+ */
+public class SqlDiagnosticsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlDiagnosticsFilter.class);
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+    public static final String TIME_HEADER = "X-SQL-Time-Ms";
+    public static final String MAX_REPEATS_HEADER = "X-SQL-Max-Repeats";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean responseHeaders;
+    private final int repeatThreshold;
+
+    public SqlDiagnosticsFilter(MeterRegistry meterRegistry, boolean responseHeaders, int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.responseHeaders = responseHeaders;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper bufferedResponse = responseHeaders ? new ContentCachingResponseWrapper(response) : null;
+        SqlStatementStats stats = SqlStatementStats.begin();
+        try {
+            filterChain.doFilter(request, bufferedResponse != null ? bufferedResponse : response);
+        } finally {
+            stats.end();
+            record(request, stats);
+            if (bufferedResponse != null) {
+                bufferedResponse.setHeader(STATEMENTS_HEADER, Integer.toString(stats.getStatements()));
+                bufferedResponse.setHeader(ROWS_HEADER, Long.toString(stats.getRowsFetched()));
+                bufferedResponse.setHeader(TIME_HEADER, Long.toString(stats.getJdbcTimeMillis()));
+                bufferedResponse.setHeader(MAX_REPEATS_HEADER, Integer.toString(stats.getMaxRepeats()));
+                bufferedResponse.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatementStats stats) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN"; // Raw paths would explode the tag cardinality
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        DistributionSummary.builder("http.server.requests.sql.statements").tags(tags)
+                .description("JDBC statements executed per request").register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.server.requests.sql.rows").tags(tags)
+                .description("Rows fetched per request").register(meterRegistry)
+                .record(stats.getRowsFetched());
+        Timer.builder("http.server.requests.sql.time").tags(tags)
+                .description("Time spent in JDBC per request").register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        for (Map.Entry<String, Integer> shape : stats.getStatementShapes().entrySet()) {
+            if (shape.getValue() <= repeatThreshold) {
+                break; // Sorted by count
+            }
+            Counter.builder("http.server.requests.sql.repeated").tags(tags)
+                    .description("Requests that repeated one statement shape more than the threshold").register(meterRegistry)
+                    .increment();
+            logger.warn("Possible N+1: {} {} ran the same statement {} times ({} statements in total): {}",
+                    request.getMethod(), uri, shape.getValue(), stats.getStatements(), shape.getKey());
+            break; // One warning per request is enough to find it
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskmaster.diagnostics;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * JDBC activity of one unit of work (an HTTP request, or a block measured by {@link SqlBudget}) on the current thread.
+ * Scopes nest: a statement is counted in the innermost scope and in all enclosing ones.
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final SqlStatementStats parent;
+    private int statements;
+    private long rowsFetched;
+    private long jdbcNanos;
+    private final Map<String, Integer> countsBySql = new HashMap<>(); // Raw SQL; shapes are derived on demand
+
+    private SqlStatementStats(SqlStatementStats parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Opens a scope on the current thread. Must be closed with {@link #end()} on the same thread.
+     */
+    public static SqlStatementStats begin() {
+        SqlStatementStats stats = new SqlStatementStats(CURRENT.get());
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public void end() {
+        if (parent != null) {
+            CURRENT.set(parent);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+    static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql, long nanos) {
+        for (SqlStatementStats stats = this; stats != null; stats = stats.parent) {
+            stats.statements++;
+            stats.jdbcNanos += nanos;
+            if (sql != null) {
+                stats.countsBySql.merge(sql, 1, Integer::sum);
+            }
+        }
+    }
+
+    void recordFetch(boolean rowReturned, long nanos) {
+        for (SqlStatementStats stats = this; stats != null; stats = stats.parent) {
+            stats.jdbcNanos += nanos;
+            if (rowReturned) {
+                stats.rowsFetched++;
+            }
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRowsFetched() {
+        return rowsFetched;
+    }
+
+    public long getJdbcTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(jdbcNanos);
+    }
+
+    long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * Executions per statement shape (literals and IN-list arity removed), most frequent first.
+     */
+    public Map<String, Integer> getStatementShapes() {
+        Map<String, Integer> shapes = new HashMap<>();
+        countsBySql.forEach((sql, count) -> shapes.merge(shapeOf(sql), count, Integer::sum));
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        shapes.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEachOrdered(e -> sorted.put(e.getKey(), e.getValue()));
+        return sorted;
+    }
+
+    /**
+     * The highest number of times any single statement shape ran, 0 if nothing ran.
+     */
+    public int getMaxRepeats() {
+        return getStatementShapes().values().stream().findFirst().orElse(0);
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = PARAMETER_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
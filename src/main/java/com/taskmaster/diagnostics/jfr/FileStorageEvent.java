@@ -0,0 +1,30 @@
+package com.taskmaster.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmaster.FileStorage")
+@Label("File Storage")
+@Description("An attachment or derivative stored, loaded or deleted on disk")
+@Category({"TaskMaster", "Storage"})
+@StackTrace(false)
+@Registered(false)
+public class FileStorageEvent extends jdk.jfr.Event {
+
+    @Label("Operation")
+    @Description("store, store-derivative, load or delete")
+    public String operation;
+
+    @Label("Path")
+    @Description("Path relative to the upload directory")
+    public String path;
+
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+}
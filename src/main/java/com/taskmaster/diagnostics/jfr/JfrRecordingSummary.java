@@ -0,0 +1,129 @@
+package com.taskmaster.diagnostics.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarizes the TaskMaster events of a {@code .jfr} recording into one latency table per event type:
+ * <pre>
+ *     ./gradlew jfrSummary -Pjfr=/path/to/recording.jfr
+ * </pre>
+ * Rows are keyed by operation (service method, storage operation, authentication outcome, membership result) and
+ * sorted by total time, so the most expensive paths come first. JDK {@code jdk.VirtualThreadPinned} events (Java 21+,
+ * virtual-thread mode) are included too, keyed by the innermost application frame, to find pinning hotspots.
+ */
+public final class JfrRecordingSummary {
+
+    private final Map<String, Map<String, Operation>> tables = new TreeMap<>();
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: JfrRecordingSummary <recording.jfr>...");
+            System.exit(2);
+        }
+        JfrRecordingSummary summary = new JfrRecordingSummary();
+        for (String file : args) {
+            summary.read(Path.of(file));
+        }
+        summary.print(System.out);
+    }
+
+    public void read(Path recording) throws IOException {
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                add(file.readEvent());
+            }
+        }
+    }
+
+    public void add(RecordedEvent event) {
+        String type = event.getEventType().getName();
+        String key = switch (type) {
+            case "com.taskmaster.ServiceInvocation" -> event.getString("service") + "." + event.getString("method")
+                    + (event.getString("exception") != null ? " !" + event.getString("exception") : "");
+            case "com.taskmaster.FileStorage" -> event.getString("operation");
+            case "com.taskmaster.JwtAuthentication" -> event.getString("outcome");
+            case "com.taskmaster.MembershipCheck" -> event.getBoolean("granted") ? "granted" : "denied";
+            case "jdk.VirtualThreadPinned" -> pinnedAt(event);
+            default -> null;
+        };
+        if (key == null) {
+            return;
+        }
+        Operation operation = tables.computeIfAbsent(event.getEventType().getLabel(), t -> new TreeMap<>())
+                .computeIfAbsent(key, k -> new Operation());
+        operation.add(event.getDuration().toNanos(), event.hasField("bytes") ? event.getLong("bytes") : 0);
+    }
+
+    private static String pinnedAt(RecordedEvent event) {
+        if (event.getStackTrace() == null || event.getStackTrace().getFrames().isEmpty()) {
+            return "(no stack trace)";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        RecordedFrame frame = frames.stream()
+                .filter(f -> f.getMethod().getType().getName().startsWith("com.taskmaster."))
+                .findFirst()
+                .orElse(frames.get(0));
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+
+    public void print(PrintStream out) {
+        if (tables.isEmpty()) {
+            out.println("No TaskMaster events in the recording (was app.jfr.enabled=true?)");
+            return;
+        }
+        tables.forEach((table, operations) -> {
+            out.println();
+            out.println(table);
+            out.printf("%-60s %8s %10s %9s %9s %9s %9s %9s %12s%n",
+                    "operation", "count", "total ms", "mean ms", "p50 ms", "p90 ms", "p99 ms", "max ms", "bytes");
+            operations.entrySet().stream()
+                    .sorted(Comparator.comparingLong((Map.Entry<String, Operation> e) -> e.getValue().totalNanos).reversed())
+                    .forEach(e -> {
+                        Operation op = e.getValue();
+                        long[] sorted = op.sortedDurations();
+                        out.printf("%-60s %8d %10.1f %9.3f %9.3f %9.3f %9.3f %9.3f %12d%n",
+                                e.getKey(), sorted.length, millis(op.totalNanos), millis(op.totalNanos) / sorted.length,
+                                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.90)),
+                                millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]), op.bytes);
+                    });
+        });
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        return sorted[(int) Math.ceil(p * sorted.length) - 1];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Operation {
+        private final List<Long> durations = new ArrayList<>();
+        private long totalNanos;
+        private long bytes;
+
+        void add(long nanos, long byteCount) {
+            durations.add(nanos);
+            totalNanos += nanos;
+            bytes += byteCount;
+        }
+
+        long[] sortedDurations() {
+            long[] sorted = durations.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+}
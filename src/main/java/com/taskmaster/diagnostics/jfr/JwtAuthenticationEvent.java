@@ -0,0 +1,27 @@
+package com.taskmaster.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmaster.JwtAuthentication")
+@Label("JWT Authentication")
+@Description("Bearer token validation and principal lookup in JwtAuthenticationFilter")
+@Category({"TaskMaster", "Security"})
+@StackTrace(false)
+@Registered(false)
+public class JwtAuthenticationEvent extends jdk.jfr.Event {
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Outcome")
+    @Description("authenticated, anonymous, rejected or error")
+    public String outcome;
+
+    @Label("URI")
+    public String uri;
+}
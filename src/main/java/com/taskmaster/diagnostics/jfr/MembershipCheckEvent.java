@@ -0,0 +1,26 @@
+package com.taskmaster.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmaster.MembershipCheck")
+@Label("Project Membership Check")
+@Description("A verifyUserMembership call")
+@Category({"TaskMaster", "Security"})
+@StackTrace(false)
+@Registered(false)
+public class MembershipCheckEvent extends jdk.jfr.Event {
+
+    @Label("Project Id")
+    public long projectId;
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Granted")
+    public boolean granted;
+}
@@ -0,0 +1,27 @@
+package com.taskmaster.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Registered;
+import jdk.jfr.StackTrace;
+
+@Name("com.taskmaster.ServiceInvocation")
+@Label("Service Invocation")
+@Description("A public method call on a *ServiceImpl bean")
+@Category({"TaskMaster", "Service"})
+@StackTrace(false)
+@Registered(false)
+public class ServiceInvocationEvent extends jdk.jfr.Event {
+
+    @Label("Service")
+    public String service;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Exception")
+    @Description("Simple class name of the thrown exception, null on success")
+    public String exception;
+}
@@ -0,0 +1,31 @@
+package com.taskmaster.diagnostics.jfr;
+
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+
+import java.util.List;
+
+/**
+ * The application's JFR events. They are declared {@code @Registered(false)} so that, until {@link #register()} runs,
+ * {@code begin()}/{@code commit()} on them are no-ops the JIT removes. Once registered they are enabled by default and
+ * cost little more than a timestamp per call while no recording is running.
+ */
+public final class TaskmasterEvents {
+
+    public static final List<Class<? extends Event>> TYPES = List.of(
+            JwtAuthenticationEvent.class,
+            MembershipCheckEvent.class,
+            ServiceInvocationEvent.class,
+            FileStorageEvent.class);
+
+    private TaskmasterEvents() {
+    }
+
+    public static void register() {
+        TYPES.forEach(FlightRecorder::register);
+    }
+
+    public static void unregister() {
+        TYPES.forEach(FlightRecorder::unregister);
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmaster.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPagedResponse<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor; // Pass back as "cursor" to fetch the next page; null on the last page
+    private boolean last;
+}
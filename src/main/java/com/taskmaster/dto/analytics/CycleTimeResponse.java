@@ -0,0 +1,15 @@
+package com.taskmaster.dto.analytics;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+public class CycleTimeResponse {
+    private Long projectId;
+    private LocalDate from; // Completion dates, inclusive (UTC)
+    private LocalDate to;
+    private long completedTasks;
+    private DurationPercentilesResponse cycleTimeHours; // First IN_PROGRESS until completion
+    private DurationPercentilesResponse leadTimeHours;  // Creation until completion
+}
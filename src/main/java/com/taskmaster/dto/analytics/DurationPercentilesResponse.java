@@ -0,0 +1,16 @@
+package com.taskmaster.dto.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Durations in hours; null when no completed task qualifies
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DurationPercentilesResponse {
+    private Double p50;
+    private Double p75;
+    private Double p85;
+    private Double p95;
+}
@@ -0,0 +1,15 @@
+package com.taskmaster.dto.analytics;
+
+import com.taskmaster.model.common.TaskStatus;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@Data
+public class FlowDayResponse {
+    private LocalDate day;
+    private Map<TaskStatus, Long> taskCountsByStatus; // End of day (UTC); every status is present
+    private long remainingTasks; // Not yet COMPLETED or ARCHIVED (burndown)
+    private long totalTasks;
+}
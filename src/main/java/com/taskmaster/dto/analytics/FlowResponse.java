@@ -0,0 +1,14 @@
+package com.taskmaster.dto.analytics;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class FlowResponse {
+    private Long projectId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<FlowDayResponse> days; // One entry per day of [from, to], oldest first
+}
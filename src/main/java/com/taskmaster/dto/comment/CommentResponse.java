@@ -2,9 +2,12 @@ package com.taskmaster.dto.comment;
 
 import com.taskmaster.dto.user.UserSummaryResponse;
 import lombok.Data;
+import lombok.NoArgsConstructor;
+
 import java.time.Instant;
 
 @Data
+@NoArgsConstructor
 public class CommentResponse {
     private Long id;
     private String content;
@@ -12,4 +15,15 @@ public class CommentResponse {
     private UserSummaryResponse author;
     private Instant createdAt;
     private Instant updatedAt;
-}
\ No newline at end of file
+
+    // Used by JPQL constructor projections that join the author summary in the same query
+    public CommentResponse(Long id, String content, Long taskId, Instant createdAt, Instant updatedAt,
+                           Long authorId, String authorUsername, String authorFirstName, String authorLastName) {
+        this.id = id;
+        this.content = content;
+        this.taskId = taskId;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.author = new UserSummaryResponse(authorId, authorUsername, authorFirstName, authorLastName);
+    }
+}
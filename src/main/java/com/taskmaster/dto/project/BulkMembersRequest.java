@@ -0,0 +1,16 @@
+package com.taskmaster.dto.project;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkMembersRequest {
+    @NotEmpty(message = "User IDs cannot be empty")
+    @Size(max = 1000, message = "At most 1000 users can be changed per request")
+    private List<@NotNull Long> userIds;
+
+}
@@ -0,0 +1,13 @@
+package com.taskmaster.dto.project;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkMembersResponse {
+    private int requested; // Distinct user IDs in the request
+    private int changed; // Memberships actually added or removed; the rest were already in the requested state
+}
@@ -0,0 +1,20 @@
+package com.taskmaster.dto.project;
+
+import com.taskmaster.model.common.ProjectDeletionStatus;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+public class ProjectDeletionResponse {
+    private Long projectId;
+    private ProjectDeletionStatus status;
+    private long totalTasks; // Task count when the deletion was requested
+    private long deletedTasks;
+    private long deletedComments;
+    private long deletedAttachments;
+    private long reclaimedBytes;
+    private String lastError;
+    private Instant requestedAt;
+    private Instant completedAt;
+}
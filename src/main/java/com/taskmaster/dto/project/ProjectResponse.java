@@ -1,5 +1,6 @@
 package com.taskmaster.dto.project;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.taskmaster.dto.user.UserSummaryResponse;
 import lombok.Data;
 import java.time.Instant;
@@ -13,4 +14,7 @@ public class ProjectResponse {
     private Instant createdAt;
     private Instant updatedAt;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ProjectStatsResponse stats; // Only populated when requested (includeStats=true)
+
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.taskmaster.dto.project;
+
+import com.taskmaster.model.common.TaskStatus;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Data
+public class ProjectStatsResponse {
+    private Map<TaskStatus, Long> taskCountsByStatus; // Every status is present, with 0 when no task has it
+    private long totalTasks;
+    private long overdueTasks; // Past their due date and not COMPLETED or ARCHIVED
+    private long memberCount;
+    private Instant lastActivityAt; // Latest change to the project or any of its tasks
+}
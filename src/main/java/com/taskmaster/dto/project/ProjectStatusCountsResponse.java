@@ -0,0 +1,13 @@
+package com.taskmaster.dto.project;
+
+import com.taskmaster.model.common.TaskStatus;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class ProjectStatusCountsResponse {
+    private Long projectId;
+    private Map<TaskStatus, Long> taskCountsByStatus; // Every status is present, with 0 when no task has it
+    private long totalTasks;
+}
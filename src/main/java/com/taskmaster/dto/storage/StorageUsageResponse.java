@@ -0,0 +1,15 @@
+package com.taskmaster.dto.storage;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorageUsageResponse {
+    private Long id; // Project or user ID, depending on the endpoint
+    private long usedBytes;
+    private Long quotaBytes; // Null when no quota is configured
+    private Long remainingBytes; // Null when no quota is configured
+}
@@ -0,0 +1,14 @@
+package com.taskmaster.dto.task;
+
+import com.taskmaster.model.common.TaskStatus;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BoardColumnResponse {
+    private TaskStatus status;
+    private long totalTasks; // From the status rollups, not a count query
+    private List<TaskResponse> tasks; // Cards without description
+    private String nextCursor; // Pass to the column endpoint to load more; null when the column is exhausted
+}
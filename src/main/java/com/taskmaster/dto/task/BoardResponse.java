@@ -0,0 +1,11 @@
+package com.taskmaster.dto.task;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BoardResponse {
+    private Long projectId;
+    private List<BoardColumnResponse> columns; // One per TaskStatus, in declaration order
+}
@@ -0,0 +1,13 @@
+package com.taskmaster.dto.task;
+
+import com.taskmaster.model.common.TaskStatus;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class SubtreeStatsResponse {
+    private Long taskId;
+    private Map<TaskStatus, Long> taskCountsByStatus; // The task and all its descendants; every status is present
+    private long totalTasks;
+}
@@ -27,6 +27,9 @@ public class TaskCreateRequest {
     // Assignee ID is optional during creation, can be assigned later
     private Long assigneeId;
 
+    // Optional parent task (same project), making the new task a subtask
+    private Long parentId;
+
     // Project ID is usually derived from the path parameter (e.g., /api/projects/{projectId}/tasks)
     // and not included in the request body itself.
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.taskmaster.dto.task;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+@Data
+public class TaskDependencyRequest {
+    @NotNull(message = "Blocking task id is required")
+    private Long blockedByTaskId; // Task that must be done first; same project as the path task
+}
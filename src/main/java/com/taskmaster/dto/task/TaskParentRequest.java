@@ -0,0 +1,8 @@
+package com.taskmaster.dto.task;
+
+import lombok.Data;
+
+@Data
+public class TaskParentRequest {
+    private Long parentId; // New parent in the same project; null makes the task a top-level task
+}
@@ -0,0 +1,13 @@
+package com.taskmaster.dto.task;
+
+import com.taskmaster.model.common.TaskStatus;
+import lombok.Data;
+
+@Data
+public class TaskPositionRequest {
+    // Neighbours after the move; either may be null at the top/bottom of a column. Both null appends to the column.
+    private Long previousTaskId;
+    private Long nextTaskId;
+    // Target column; defaults to the neighbours' status, or the task's current status when there are none
+    private TaskStatus status;
+}
@@ -15,6 +15,7 @@ public class TaskResponse {
     private TaskStatus status;
     private LocalDate dueDate;
     private Long projectId;
+    private Long parentId; // Null for top-level tasks
     // Avoid sending full User object, use a summary DTO
     private UserSummaryResponse assignee;
     private Instant createdAt;
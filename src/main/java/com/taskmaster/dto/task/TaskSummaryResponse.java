@@ -0,0 +1,15 @@
+package com.taskmaster.dto.task;
+
+import com.taskmaster.model.common.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSummaryResponse {
+    private Long id;
+    private String title;
+    private TaskStatus status;
+}
@@ -0,0 +1,45 @@
+package com.taskmaster.job;
+
+import com.taskmaster.model.common.TaskStatus;
+import com.taskmaster.repository.TaskRepository;
+import com.taskmaster.repository.projection.BoardColumnView;
+import com.taskmaster.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Rewrites the board ranks of columns whose keys have grown long (many moves into the same gap) or that still
+ * contain tasks without a rank, with evenly spaced short keys. Each column is rewritten in its own transaction.
+ */
+@Component
+public class BoardRankRebalanceJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardRankRebalanceJob.class);
+
+    @Autowired private TaskService taskService;
+    @Autowired private TaskRepository taskRepository;
+
+    @Value("${app.board-rank.max-length:24}")
+    private int maxLength;
+
+    @Scheduled(cron = "${app.board-rank.rebalance-cron:0 45 4 * * *}")
+    public void rebalance() {
+        List<BoardColumnView> columns = taskRepository.findColumnsNeedingRebalance(maxLength);
+        int rewrittenTasks = 0;
+        for (BoardColumnView column : columns) {
+            rewrittenTasks += taskService.rebalanceBoardColumn(column.getProjectId(), TaskStatus.valueOf(column.getStatus()));
+        }
+
+        if (!columns.isEmpty()) {
+            logger.info("Board rank rebalancing rewrote {} tasks in {} columns", rewrittenTasks, columns.size());
+        } else {
+            logger.info("Board rank rebalancing found no column to rewrite");
+        }
+    }
+}
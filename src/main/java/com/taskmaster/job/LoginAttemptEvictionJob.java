@@ -0,0 +1,28 @@
+package com.taskmaster.job;
+
+import com.taskmaster.security.LoginAttemptGuard;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Forgets login failure counters once their sliding window has passed, so guessing across many
+ * usernames or addresses does not grow the guard's tables without bound.
+ */
+@Component
+public class LoginAttemptEvictionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptEvictionJob.class);
+
+    @Autowired private LoginAttemptGuard loginAttemptGuard;
+
+    @Scheduled(fixedDelayString = "${app.login-guard.eviction-interval-ms:60000}")
+    public void evict() {
+        int evicted = loginAttemptGuard.evictExpired();
+        if (evicted > 0) {
+            logger.debug("Evicted {} expired login failure counters", evicted);
+        }
+    }
+}
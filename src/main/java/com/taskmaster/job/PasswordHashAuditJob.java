@@ -0,0 +1,74 @@
+package com.taskmaster.job;
+
+import com.taskmaster.repository.UserRepository;
+import com.taskmaster.repository.projection.PasswordHashPrefixView;
+import com.taskmaster.security.PasswordHashCost;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes how stored password hashes are distributed over scheme and BCrypt cost
+ * ({@code taskmaster.password.hashes}) and how many still need a rehash on their next login
+ * ({@code taskmaster.password.hashes.legacy}), so the migration to a new cost can be followed.
+ */
+@Component
+public class PasswordHashAuditJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashAuditJob.class);
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private PasswordHashCost passwordHashCost;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private final AtomicLong legacyHashes = new AtomicLong();
+    private MultiGauge hashes;
+
+    @PostConstruct
+    public void init() {
+        hashes = MultiGauge.builder("taskmaster.password.hashes")
+                .description("Stored password hashes by scheme and cost")
+                .register(meterRegistry);
+        Gauge.builder("taskmaster.password.hashes.legacy", legacyHashes, AtomicLong::get)
+                .description("Stored password hashes below the target cost or without a scheme prefix")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.password-hash.audit-interval-ms:3600000}")
+    public void audit() {
+        Map<Tags, Long> usersByTags = new LinkedHashMap<>();
+        long legacy = 0;
+        for (PasswordHashPrefixView view : userRepository.countByPasswordHashPrefix()) {
+            String prefix = view.getHashPrefix();
+            OptionalInt cost = PasswordHashCost.costOf(prefix + "$");
+            String scheme = !cost.isPresent() ? "other" : prefix.startsWith("{bcrypt}") ? "bcrypt" : "bcrypt-unprefixed";
+            if (!"bcrypt".equals(scheme) || cost.getAsInt() < passwordHashCost.getTargetCost()) {
+                legacy += view.getUsers();
+            }
+            usersByTags.merge(Tags.of("scheme", scheme, "cost", cost.isPresent() ? Integer.toString(cost.getAsInt()) : "none"),
+                    view.getUsers(), Long::sum);
+        }
+        List<MultiGauge.Row<?>> rows = new ArrayList<>();
+        usersByTags.forEach((tags, users) -> rows.add(MultiGauge.Row.of(tags, users)));
+        hashes.register(rows, true);
+        legacyHashes.set(legacy);
+        if (legacy > 0) {
+            logger.info("{} stored password hashes are below cost {} or unprefixed; they are rehashed on next login",
+                    legacy, passwordHashCost.getTargetCost());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.taskmaster.job;
+
+import com.taskmaster.service.ProjectDeletionRequestedEvent;
+import com.taskmaster.service.ProjectDeletionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Purges deleted projects in the background, one chunk of tasks per short transaction, so that
+ * neither the heap nor row locks scale with the size of the project. Unfinished deletions resume on startup.
+ */
+@Component
+public class ProjectDeletionWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectDeletionWorker.class);
+
+    @Autowired private ProjectDeletionService projectDeletionService;
+
+    @Autowired
+    @Qualifier("projectDeletionExecutor")
+    private ThreadPoolTaskExecutor executor;
+
+    @Value("${app.project-deletion.chunk-size:500}")
+    private int chunkSize;
+
+    // Guards against purging the same project on two threads (e.g. a retry while the first run is still going)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @TransactionalEventListener
+    public void onDeletionRequested(ProjectDeletionRequestedEvent event) {
+        submit(event.projectId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedDeletions() {
+        projectDeletionService.findUnfinishedDeletions().forEach(this::submit);
+    }
+
+    private void submit(Long projectId) {
+        if (!inFlight.add(projectId)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    purge(projectId);
+                } finally {
+                    inFlight.remove(projectId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(projectId);
+            logger.warn("Deletion queue full; project {} stays pending until it is requested again or the application restarts",
+                    projectId);
+        }
+    }
+
+    private void purge(Long projectId) {
+        try {
+            projectDeletionService.markRunning(projectId);
+            long startedAt = System.currentTimeMillis();
+            do {
+                while (projectDeletionService.purgeNextChunk(projectId, chunkSize) > 0) {
+                    // Each chunk commits on its own
+                }
+            } while (!projectDeletionService.completeDeletion(projectId));
+            logger.info("Deleted project {} in {} ms", projectId, System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            logger.error("Deletion of project {} failed; it can be retried by requesting the deletion again", projectId, e);
+            projectDeletionService.markFailed(projectId, e.getMessage());
+        }
+    }
+}
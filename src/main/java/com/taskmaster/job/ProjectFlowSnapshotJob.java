@@ -0,0 +1,59 @@
+package com.taskmaster.job;
+
+import com.taskmaster.repository.ProjectRepository;
+import com.taskmaster.service.AnalyticsService;
+import com.taskmaster.service.impl.FlowSnapshotTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Maintains today's rows of the daily status snapshots. Every refresh interval, the projects whose rollups
+ * changed are copied (a few rows each); right after midnight (UTC), every project whose rollups differ from its
+ * latest snapshot is copied into the day that just ended, covering its last minutes, changes the in-memory tracking
+ * lost and rollup repairs.
+ */
+@Component
+public class ProjectFlowSnapshotJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectFlowSnapshotJob.class);
+
+    @Autowired private AnalyticsService analyticsService;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private FlowSnapshotTracker flowSnapshotTracker;
+
+    @Value("${app.flow-snapshots.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${app.flow-snapshots.refresh-interval-ms:300000}")
+    public void refreshChangedProjects() {
+        List<Long> projectIds = flowSnapshotTracker.drainChangedProjects();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        int rows = 0;
+        for (int from = 0; from < projectIds.size(); from += batchSize) {
+            rows += analyticsService.snapshotProjects(today, projectIds.subList(from, Math.min(from + batchSize, projectIds.size())));
+        }
+        if (!projectIds.isEmpty()) {
+            logger.debug("Refreshed {} snapshot rows of {} changed projects", rows, projectIds.size());
+        }
+    }
+
+    // Changes made between midnight and this pass also land in the previous day; keep the cron close to 00:00
+    @Scheduled(cron = "${app.flow-snapshots.end-of-day-cron:0 0 0 * * *}", zone = "UTC")
+    public void snapshotEndOfDay() {
+        LocalDate yesterday = LocalDate.now(ZoneOffset.UTC).minusDays(1);
+        int rows = 0;
+        long maxProjectId = projectRepository.findMaxId();
+        for (long fromId = 1; fromId <= maxProjectId; fromId += batchSize) {
+            rows += analyticsService.snapshotChangedProjects(yesterday, fromId, fromId + batchSize - 1);
+        }
+        logger.info("End-of-day flow snapshot for {} wrote {} rows", yesterday, rows);
+    }
+}
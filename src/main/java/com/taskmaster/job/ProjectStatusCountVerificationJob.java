@@ -0,0 +1,42 @@
+package com.taskmaster.job;
+
+import com.taskmaster.repository.ProjectRepository;
+import com.taskmaster.service.ProjectStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compares the per-project status rollups with a fresh count over tasks, in project id-range batches,
+ * and repairs any drift. Also backfills rollups for projects created before the table existed.
+ * A task change committing while its batch is being recounted can leave that row off by one until the next run.
+ */
+@Component
+public class ProjectStatusCountVerificationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectStatusCountVerificationJob.class);
+
+    @Autowired private ProjectStatsService projectStatsService;
+    @Autowired private ProjectRepository projectRepository;
+
+    @Value("${app.status-counts.verify-batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.status-counts.verify-cron:0 15 4 * * *}")
+    public void verify() {
+        int repairedRows = 0;
+        long maxProjectId = projectRepository.findMaxId();
+        for (long fromId = 1; fromId <= maxProjectId; fromId += batchSize) {
+            repairedRows += projectStatsService.repairStatusCounts(fromId, fromId + batchSize - 1);
+        }
+
+        if (repairedRows > 0) {
+            logger.warn("Status rollup verification repaired {} project/status rows", repairedRows);
+        } else {
+            logger.info("Status rollup verification found no drift");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmaster.job;
+
+import com.taskmaster.concurrency.RateLimitFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the rate limiter's bucket tables proportional to the users active within the idle timeout
+ * rather than to every user ever seen.
+ */
+@Component
+public class RateLimitBucketEvictionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitBucketEvictionJob.class);
+
+    @Autowired private RateLimitFilter rateLimitFilter;
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval-ms:60000}")
+    public void evict() {
+        int evicted = rateLimitFilter.evictIdleBuckets();
+        if (evicted > 0) {
+            logger.debug("Evicted {} idle rate-limit buckets", evicted);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskmaster.job;
+
+import com.taskmaster.repository.ProjectRepository;
+import com.taskmaster.repository.UserRepository;
+import com.taskmaster.service.StorageQuotaService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically recomputes the storage counters from the attachments table to repair drift
+ * (e.g. attachments removed by task cascades or failed uploads). Each id range runs in its own short transaction.
+ */
+@Component
+public class StorageUsageReconciliationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageUsageReconciliationJob.class);
+
+    @Autowired private StorageQuotaService storageQuotaService;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+
+    @Value("${app.storage.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.storage.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        int repairedProjects = 0;
+        long maxProjectId = projectRepository.findMaxId();
+        for (long fromId = 1; fromId <= maxProjectId; fromId += batchSize) {
+            repairedProjects += storageQuotaService.reconcileProjectUsage(fromId, fromId + batchSize - 1);
+        }
+
+        int repairedUsers = 0;
+        long maxUserId = userRepository.findMaxId();
+        for (long fromId = 1; fromId <= maxUserId; fromId += batchSize) {
+            repairedUsers += storageQuotaService.reconcileUserUsage(fromId, fromId + batchSize - 1);
+        }
+
+        if (repairedProjects > 0 || repairedUsers > 0) {
+            logger.warn("Storage usage reconciliation repaired {} project and {} user counters", repairedProjects, repairedUsers);
+        } else {
+            logger.info("Storage usage reconciliation found no drift");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmaster.job;
+
+import com.taskmaster.repository.TaskRepository;
+import com.taskmaster.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes the denormalized comment/attachment counters on tasks in id-range batches,
+ * each in its own short transaction. Also backfills counters for tasks created before they existed.
+ */
+@Component
+public class TaskCounterRepairJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskCounterRepairJob.class);
+
+    @Autowired private TaskService taskService;
+    @Autowired private TaskRepository taskRepository;
+
+    @Value("${app.task-counters.repair-batch-size:5000}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.task-counters.repair-cron:0 0 4 * * *}")
+    public void repair() {
+        int repairedTasks = 0;
+        long maxTaskId = taskRepository.findMaxId();
+        for (long fromId = 1; fromId <= maxTaskId; fromId += batchSize) {
+            repairedTasks += taskService.repairTaskCounters(fromId, fromId + batchSize - 1);
+        }
+
+        if (repairedTasks > 0) {
+            logger.warn("Task counter repair fixed comment/attachment counts on {} tasks", repairedTasks);
+        } else {
+            logger.info("Task counter repair found no drift");
+        }
+    }
+}
@@ -13,7 +13,9 @@ import java.util.Objects;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_task_created", columnList = "task_id, created_at, id")
+})
 public class Comment extends Auditable {
 
     @Id
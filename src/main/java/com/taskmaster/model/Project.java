@@ -1,6 +1,7 @@
 package com.taskmaster.model;
 
 import com.taskmaster.model.common.Auditable;
+import com.taskmaster.model.common.ProjectStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -41,6 +42,17 @@ public class Project extends Auditable {
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<Task> tasks = new HashSet<>();
 
+    // Maintained by StorageQuotaService with single-statement updates, never written through the entity
+    @Column(name = "storage_used_bytes", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    private Long storageUsedBytes;
+
+    // Switched to DELETING with a single-statement update when an asynchronous deletion starts
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false, insertable = false, updatable = false,
+            columnDefinition = "varchar(20) default 'ACTIVE'")
+    private ProjectStatus status;
+
     // Helper methods for managing bidirectional relationship with members
     public void addMember(User user) {
         this.members.add(user);
@@ -0,0 +1,49 @@
+package com.taskmaster.model;
+
+import com.taskmaster.model.common.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Number of tasks per project and status at the end of a (UTC) day, copied from the live rollups
+ * (ProjectStatusCount). A row is only written when a count changed that day; readers carry the last
+ * known value forward across days without a row.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "project_daily_status_counts", indexes = {
+        @Index(name = "idx_project_daily_status_counts_lookup", columnList = "project_id, status, day")
+})
+@IdClass(ProjectDailyStatusCount.Key.class)
+public class ProjectDailyStatusCount {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TaskStatus status;
+
+    @Id
+    private LocalDate day;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private TaskStatus status;
+        private LocalDate day;
+    }
+}
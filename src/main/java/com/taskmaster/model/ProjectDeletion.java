@@ -0,0 +1,57 @@
+package com.taskmaster.model;
+
+import com.taskmaster.model.common.ProjectDeletionStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Progress record of an asynchronous project deletion. Kept after the project row is gone so
+ * the requester can still read the final outcome.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "project_deletions")
+public class ProjectDeletion {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId; // No FK: the project row is removed at the end of the deletion
+
+    @Column(name = "requested_by_id", nullable = false)
+    private Long requestedById;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private ProjectDeletionStatus status;
+
+    @Column(name = "total_tasks", nullable = false)
+    private long totalTasks;
+
+    // Progress counters, incremented with single-statement updates after each purged chunk
+    @Column(name = "deleted_tasks", nullable = false)
+    private long deletedTasks;
+
+    @Column(name = "deleted_comments", nullable = false)
+    private long deletedComments;
+
+    @Column(name = "deleted_attachments", nullable = false)
+    private long deletedAttachments;
+
+    @Column(name = "reclaimed_bytes", nullable = false)
+    private long reclaimedBytes;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "requested_at", nullable = false)
+    private Instant requestedAt;
+
+    @Column(name = "completed_at")
+    private Instant completedAt;
+}
@@ -0,0 +1,41 @@
+package com.taskmaster.model;
+
+import com.taskmaster.model.common.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Rollup of the number of tasks per project and status. Rows are only written with upsert increments
+ * (ProjectStatusCountRepository), in the same transaction as the task change.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "project_status_counts")
+@IdClass(ProjectStatusCount.Key.class)
+public class ProjectStatusCount {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private TaskStatus status;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private TaskStatus status;
+    }
+}
@@ -18,7 +18,10 @@ import java.util.Set;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+        @Index(name = "idx_tasks_board_rank", columnList = "project_id, status, board_rank, id"),
+        @Index(name = "idx_tasks_parent", columnList = "parent_id")
+})
 public class Task extends Auditable {
 
     @Id
@@ -49,6 +52,11 @@ public class Task extends Auditable {
     @JoinColumn(name = "assignee_id") // Nullable if tasks can be unassigned
     private User assignee;
 
+    // Parent in the subtask hierarchy (same project); descendants are read through the TaskClosure table
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Task parent;
+
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     @OrderBy("createdAt ASC") // Order comments chronologically
     private Set<Comment> comments = new HashSet<>();
@@ -56,6 +64,25 @@ public class Task extends Auditable {
     @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<Attachment> attachments = new HashSet<>();
 
+    // Tasks this one waits for. Never loaded for traversal: the service works on the cached project graph
+    @OneToMany(mappedBy = "task", fetch = FetchType.LAZY)
+    @Builder.Default
+    private Set<TaskDependency> dependencies = new HashSet<>();
+
+    // Manual board order within a status column (see LexoRank); byte-order collation so the database sorts
+    // keys exactly like String.compareTo. Empty for tasks created before ranking, until rebalanced.
+    @Column(name = "board_rank", nullable = false, length = 64, columnDefinition = "varchar(64) collate \"C\" default ''")
+    private String boardRank;
+
+    // Denormalized counters, maintained with single-statement increments and never written through the entity
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "integer default 0")
+    private Integer commentCount;
+
+    @Column(name = "attachment_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "integer default 0")
+    private Integer attachmentCount;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
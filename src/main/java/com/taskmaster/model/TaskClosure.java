@@ -0,0 +1,42 @@
+package com.taskmaster.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Closure table of the subtask hierarchy: one row per (ancestor, descendant) pair at any depth, without
+ * self rows, so a task's descendants or ancestors are one index range each. Written only with set-based
+ * statements (TaskClosureRepository) in the transaction that changes Task.parent.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "task_closure", indexes = {
+        @Index(name = "idx_task_closure_descendant", columnList = "descendant_id, depth")
+})
+@IdClass(TaskClosure.Key.class)
+public class TaskClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId;
+
+    @Column(nullable = false)
+    private int depth; // 1 for a direct child
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
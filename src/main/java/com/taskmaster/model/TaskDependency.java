@@ -0,0 +1,53 @@
+package com.taskmaster.model;
+
+import com.taskmaster.model.common.Auditable;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Directed edge of the project dependency graph: {@code task} cannot start before {@code blockedBy} is done.
+ * Both tasks belong to the same project; the project id is copied onto the edge so a whole project graph
+ * loads with one index scan (see TaskDependencyGraphCache).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "task_dependencies",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_dependencies_edge", columnNames = {"task_id", "blocked_by_id"}),
+        indexes = {
+                @Index(name = "idx_task_dependencies_project", columnList = "project_id, task_id, blocked_by_id"),
+                @Index(name = "idx_task_dependencies_blocked_by", columnList = "blocked_by_id")
+        })
+public class TaskDependency extends Auditable {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    private Task task;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blocked_by_id", nullable = false)
+    private Task blockedBy;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TaskDependency that = (TaskDependency) o;
+        return id != null ? id.equals(that.id) : that.id == null;
+    }
+
+    @Override
+    public int hashCode() {
+        return id != null ? id.hashCode() : 31;
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskmaster.model;
+
+import com.taskmaster.model.common.TaskStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Append-only log of task status changes, one narrow row per change: ids, two smallint statuses and a
+ * timestamp. Rows are inserted with a single statement next to the task update and never modified; they
+ * are removed only together with their task (TaskPurgeService).
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "task_status_history", indexes = {
+        @Index(name = "idx_task_status_history_project_changed", columnList = "project_id, changed_at"),
+        @Index(name = "idx_task_status_history_task_changed", columnList = "task_id, changed_at")
+})
+public class TaskStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // Stored by ordinal to keep rows small (see TaskStatus)
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "from_status", columnDefinition = "smallint")
+    private TaskStatus fromStatus; // Null for the initial status of a new task
+
+    @Enumerated(EnumType.ORDINAL)
+    @Column(name = "to_status", nullable = false, columnDefinition = "smallint")
+    private TaskStatus toStatus;
+
+    @Column(name = "changed_by_id")
+    private Long changedById;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
@@ -48,12 +48,18 @@ public class User extends Auditable {
     @Size(max = 50)
     private String lastName;
 
+    // Bytes uploaded by this user; maintained by StorageQuotaService, never written through the entity
+    @Column(name = "storage_used_bytes", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    private Long storageUsedBytes;
+
     // --- Relationships (Examples - adjust as needed) ---
 
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(name = "project_members",
             joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "project_id"))
+            inverseJoinColumns = @JoinColumn(name = "project_id"),
+            indexes = @Index(name = "idx_project_members_project_user", columnList = "project_id, user_id"))
     private Set<Project> projects = new HashSet<>();
 
     @OneToMany(mappedBy = "assignee", cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
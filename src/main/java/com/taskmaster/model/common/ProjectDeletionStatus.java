@@ -0,0 +1,8 @@
+package com.taskmaster.model.common;
+
+public enum ProjectDeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.taskmaster.model.common;
+
+public enum ProjectStatus {
+    ACTIVE,
+    DELETING // Hidden from members while its contents are purged in the background
+}
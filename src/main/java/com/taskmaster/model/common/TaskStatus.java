@@ -1,9 +1,10 @@
 package com.taskmaster.model.common;
 
+// task_status_history stores these by ordinal: only ever append new values
 public enum TaskStatus {
     OPEN,
     IN_PROGRESS,
     REVIEW,
     COMPLETED,
     ARCHIVED
-}
\ No newline at end of file
+}
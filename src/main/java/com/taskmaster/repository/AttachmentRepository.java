@@ -3,9 +3,15 @@ package com.taskmaster.repository;
 import com.taskmaster.model.Attachment;
 import com.taskmaster.model.Task;
 import com.taskmaster.model.User;
+import com.taskmaster.repository.projection.AttachmentAccessView;
+import com.taskmaster.repository.projection.AttachmentFileView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +26,18 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
 
     // Find by file path to potentially avoid duplicates or manage storage
     Optional<Attachment> findByFilePath(String filePath);
+
+    @Query("SELECT a.task.project.id AS projectId, a.filePath AS filePath, a.fileType AS fileType " +
+            "FROM Attachment a WHERE a.id = :id")
+    Optional<AttachmentAccessView> findAccessViewById(@Param("id") Long id);
+
+    // --- Chunked purge for asynchronous project deletion ---
+
+    @Query("SELECT a.filePath AS filePath, a.fileSize AS fileSize, a.uploader.id AS uploaderId " +
+            "FROM Attachment a WHERE a.task.id IN :taskIds")
+    List<AttachmentFileView> findFileViewsByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query("DELETE FROM Attachment a WHERE a.task.id IN :taskIds")
+    int purgeByTaskIds(@Param("taskIds") Collection<Long> taskIds);
 }
\ No newline at end of file
@@ -1,21 +1,55 @@
 package com.taskmaster.repository;
 
+import com.taskmaster.dto.comment.CommentResponse;
 import com.taskmaster.model.Comment;
 import com.taskmaster.model.Task;
 import com.taskmaster.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    String RESPONSE_PROJECTION = "SELECT new com.taskmaster.dto.comment.CommentResponse(" +
+            "c.id, c.content, c.task.id, c.createdAt, c.updatedAt, a.id, a.username, a.firstName, a.lastName) " +
+            "FROM Comment c JOIN c.author a ";
+
     Page<Comment> findByTaskId(Long taskId, Pageable pageable);
 
     // Optional: Find comment by ID and Author for deletion authorization checks
     Optional<Comment> findByIdAndAuthor(Long id, User author);
-}
\ No newline at end of file
+
+    // One statement per page (plus the count), author summary joined instead of lazily loaded per row
+    @Query(value = RESPONSE_PROJECTION + "WHERE c.task.id = :taskId",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.task.id = :taskId")
+    Page<CommentResponse> findResponsesByTaskId(@Param("taskId") Long taskId, Pageable pageable);
+
+    // --- Keyset pagination on (createdAt, id), served by idx_comments_task_created ---
+
+    @Query(RESPONSE_PROJECTION + "WHERE c.task.id = :taskId ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponse> findFirstResponsesByTaskId(@Param("taskId") Long taskId, Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + "WHERE c.task.id = :taskId " +
+            "AND (c.createdAt > :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.id > :afterId)) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponse> findResponsesByTaskIdAfter(@Param("taskId") Long taskId,
+                                                     @Param("afterCreatedAt") Instant afterCreatedAt,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+    // Bulk delete for asynchronous project deletion; bypasses the entity cascades
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.task.id IN :taskIds")
+    int purgeByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+}
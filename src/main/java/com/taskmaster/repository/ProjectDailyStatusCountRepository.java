@@ -0,0 +1,52 @@
+package com.taskmaster.repository;
+
+import com.taskmaster.model.ProjectDailyStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectDailyStatusCountRepository extends JpaRepository<ProjectDailyStatusCount, ProjectDailyStatusCount.Key> {
+
+    // Copies the live rollups of the given projects into the day's rows (at most one row per status)
+    @Modifying
+    @Query(value = "INSERT INTO project_daily_status_counts (project_id, status, day, task_count) " +
+            "SELECT c.project_id, c.status, :day, c.task_count FROM project_status_counts c " +
+            "WHERE c.project_id IN (:projectIds) " +
+            "ON CONFLICT (project_id, status, day) DO UPDATE SET task_count = EXCLUDED.task_count " +
+            "WHERE project_daily_status_counts.task_count <> EXCLUDED.task_count", nativeQuery = true)
+    int snapshotProjects(@Param("day") LocalDate day, @Param("projectIds") Collection<Long> projectIds);
+
+    // Same for a project id range, limited to the rollups that differ from their latest snapshot up to that day
+    @Modifying
+    @Query(value = "INSERT INTO project_daily_status_counts (project_id, status, day, task_count) " +
+            "SELECT c.project_id, c.status, :day, c.task_count FROM project_status_counts c " +
+            "WHERE c.project_id BETWEEN :fromId AND :toId AND c.task_count IS DISTINCT FROM (" +
+            "  SELECT s.task_count FROM project_daily_status_counts s " +
+            "  WHERE s.project_id = c.project_id AND s.status = c.status AND s.day <= :day " +
+            "  ORDER BY s.day DESC LIMIT 1) " +
+            "ON CONFLICT (project_id, status, day) DO UPDATE SET task_count = EXCLUDED.task_count", nativeQuery = true)
+    int snapshotChangedProjects(@Param("day") LocalDate day, @Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * The rows of [from, to] plus, per status, the latest row before from (the value carried into the range).
+     * Both parts are index range scans on (project_id, status, day).
+     */
+    @Query(value = "(SELECT s.* FROM project_daily_status_counts s " +
+            " WHERE s.project_id = :projectId AND s.day BETWEEN :from AND :to) " +
+            "UNION ALL " +
+            "(SELECT DISTINCT ON (s.status) s.* FROM project_daily_status_counts s " +
+            " WHERE s.project_id = :projectId AND s.day < :from ORDER BY s.status, s.day DESC)", nativeQuery = true)
+    List<ProjectDailyStatusCount> findRangeWithCarryIn(@Param("projectId") Long projectId,
+                                                       @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM ProjectDailyStatusCount s WHERE s.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+}
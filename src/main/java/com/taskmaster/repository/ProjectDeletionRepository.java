@@ -0,0 +1,27 @@
+package com.taskmaster.repository;
+
+import com.taskmaster.model.ProjectDeletion;
+import com.taskmaster.model.common.ProjectDeletionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProjectDeletionRepository extends JpaRepository<ProjectDeletion, Long> {
+
+    @Query("SELECT d.projectId FROM ProjectDeletion d WHERE d.status IN :statuses ORDER BY d.requestedAt")
+    List<Long> findProjectIdsByStatusIn(@Param("statuses") Collection<ProjectDeletionStatus> statuses);
+
+    @Modifying
+    @Query("UPDATE ProjectDeletion d SET d.deletedTasks = d.deletedTasks + :tasks, " +
+            "d.deletedComments = d.deletedComments + :comments, " +
+            "d.deletedAttachments = d.deletedAttachments + :attachments, " +
+            "d.reclaimedBytes = d.reclaimedBytes + :bytes WHERE d.projectId = :projectId")
+    int recordProgress(@Param("projectId") Long projectId, @Param("tasks") long tasks, @Param("comments") long comments,
+                       @Param("attachments") long attachments, @Param("bytes") long bytes);
+}
@@ -2,11 +2,18 @@ package com.taskmaster.repository;
 
 import com.taskmaster.model.Project;
 import com.taskmaster.model.User;
+import com.taskmaster.model.common.ProjectStatus;
+import com.taskmaster.repository.projection.ProjectTaskStatsView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +25,30 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     // Find projects where a specific user is a member
     Page<Project> findByMembersContaining(User member, Pageable pageable);
 
+    @EntityGraph(attributePaths = "owner")
+    Page<Project> findByMembersContainingAndStatus(User member, ProjectStatus status, Pageable pageable);
+
+    // Task, overdue and member counts for a page of projects, in one grouped query
+    @Query(value = "SELECT p.id AS projectId, " +
+            "COALESCE(s.open_count, 0) AS openCount, COALESCE(s.in_progress_count, 0) AS inProgressCount, " +
+            "COALESCE(s.review_count, 0) AS reviewCount, COALESCE(s.completed_count, 0) AS completedCount, " +
+            "COALESCE(s.archived_count, 0) AS archivedCount, COALESCE(s.overdue_count, 0) AS overdueCount, " +
+            "(SELECT COUNT(*) FROM project_members pm WHERE pm.project_id = p.id) AS memberCount, " +
+            "GREATEST(p.updated_at, s.last_task_update) AS lastActivityAt " +
+            "FROM projects p LEFT JOIN (" +
+            "  SELECT t.project_id, " +
+            "    COUNT(*) FILTER (WHERE t.status = 'OPEN') AS open_count, " +
+            "    COUNT(*) FILTER (WHERE t.status = 'IN_PROGRESS') AS in_progress_count, " +
+            "    COUNT(*) FILTER (WHERE t.status = 'REVIEW') AS review_count, " +
+            "    COUNT(*) FILTER (WHERE t.status = 'COMPLETED') AS completed_count, " +
+            "    COUNT(*) FILTER (WHERE t.status = 'ARCHIVED') AS archived_count, " +
+            "    COUNT(*) FILTER (WHERE t.due_date < CURRENT_DATE AND t.status NOT IN ('COMPLETED', 'ARCHIVED')) AS overdue_count, " +
+            "    MAX(t.updated_at) AS last_task_update " +
+            "  FROM tasks t WHERE t.project_id IN (:projectIds) GROUP BY t.project_id" +
+            ") s ON s.project_id = p.id " +
+            "WHERE p.id IN (:projectIds)", nativeQuery = true)
+    List<ProjectTaskStatsView> findTaskStats(@Param("projectIds") Collection<Long> projectIds);
+
     // Find projects owned by a specific user
     Page<Project> findByOwner(User owner, Pageable pageable);
 
@@ -26,4 +57,79 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     boolean existsByIdAndOwner(Long projectId, User owner);
 
-}
\ No newline at end of file
+    // Single-statement membership check by ids, without loading the user first. Projects being deleted have no members.
+    @Query("SELECT COUNT(p) > 0 FROM Project p JOIN p.members m WHERE p.id = :projectId AND m.id = :userId " +
+            "AND p.status = com.taskmaster.model.common.ProjectStatus.ACTIVE")
+    boolean isMember(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    @Query("SELECT p.owner.id FROM Project p WHERE p.id = :projectId")
+    Optional<Long> findOwnerIdById(@Param("projectId") Long projectId);
+
+    // Serializes dependency graph and subtask hierarchy changes of one project. NO KEY UPDATE does not block task inserts (FK KEY SHARE locks).
+    @Query(value = "SELECT id FROM projects WHERE id = :projectId FOR NO KEY UPDATE", nativeQuery = true)
+    Optional<Long> lockForGraphChange(@Param("projectId") Long projectId);
+
+    // --- Set-based membership changes (never hydrate Project.members / User.projects) ---
+
+    // Unknown user ids are skipped by the join; existing memberships are left untouched
+    @Modifying
+    @Query(value = "INSERT INTO project_members (user_id, project_id) " +
+            "SELECT u.id, :projectId FROM users u WHERE u.id IN (:userIds) " +
+            "ON CONFLICT DO NOTHING", nativeQuery = true)
+    int addMembers(@Param("projectId") Long projectId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_members WHERE project_id = :projectId AND user_id IN (:userIds)",
+            nativeQuery = true)
+    int removeMembers(@Param("projectId") Long projectId, @Param("userIds") Collection<Long> userIds);
+
+    // --- Asynchronous deletion ---
+
+    // Matches no row when the project is already being deleted
+    @Modifying
+    @Query("UPDATE Project p SET p.status = com.taskmaster.model.common.ProjectStatus.DELETING " +
+            "WHERE p.id = :projectId AND p.status = com.taskmaster.model.common.ProjectStatus.ACTIVE")
+    int markDeleting(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_members WHERE project_id = :projectId", nativeQuery = true)
+    int deleteMemberships(@Param("projectId") Long projectId);
+
+    // Bulk delete that bypasses the entity cascades; children must already be purged
+    @Modifying
+    @Query("DELETE FROM Project p WHERE p.id = :projectId")
+    int deleteProjectRow(@Param("projectId") Long projectId);
+
+    // --- Storage usage counters ---
+
+    @Query("SELECT p.storageUsedBytes FROM Project p WHERE p.id = :projectId")
+    Optional<Long> findStorageUsedBytesById(@Param("projectId") Long projectId);
+
+    // Conditional increment: matches no row when the upload would push the project over its quota
+    @Modifying
+    @Query("UPDATE Project p SET p.storageUsedBytes = p.storageUsedBytes + :bytes " +
+            "WHERE p.id = :projectId AND p.storageUsedBytes + :bytes <= :quotaBytes")
+    int reserveStorage(@Param("projectId") Long projectId, @Param("bytes") long bytes, @Param("quotaBytes") long quotaBytes);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.storageUsedBytes = " +
+            "CASE WHEN p.storageUsedBytes > :bytes THEN p.storageUsedBytes - :bytes ELSE 0 END " +
+            "WHERE p.id = :projectId")
+    int releaseStorage(@Param("projectId") Long projectId, @Param("bytes") long bytes);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Project p")
+    long findMaxId();
+
+    // Recomputes the counters of one id range from the attachments table, touching only drifted rows
+    @Modifying
+    @Query(value = "UPDATE projects p SET storage_used_bytes = COALESCE(s.used_bytes, 0) " +
+            "FROM projects p2 LEFT JOIN (" +
+            "  SELECT t.project_id, SUM(a.file_size) AS used_bytes FROM attachments a " +
+            "  JOIN tasks t ON t.id = a.task_id " +
+            "  WHERE t.project_id BETWEEN :fromId AND :toId GROUP BY t.project_id" +
+            ") s ON s.project_id = p2.id " +
+            "WHERE p.id = p2.id AND p.id BETWEEN :fromId AND :toId " +
+            "AND p.storage_used_bytes <> COALESCE(s.used_bytes, 0)", nativeQuery = true)
+    int reconcileStorageUsage(@Param("fromId") long fromId, @Param("toId") long toId);
+
+}
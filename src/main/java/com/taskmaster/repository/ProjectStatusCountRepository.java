@@ -0,0 +1,48 @@
+package com.taskmaster.repository;
+
+import com.taskmaster.model.ProjectStatusCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProjectStatusCountRepository extends JpaRepository<ProjectStatusCount, ProjectStatusCount.Key> {
+
+    // At most one row per TaskStatus, read by primary key prefix
+    List<ProjectStatusCount> findByProjectId(Long projectId);
+
+    // Upsert increment: no read-modify-write, so concurrent task changes never lose updates. Clamped at 0.
+    @Modifying
+    @Query(value = "INSERT INTO project_status_counts (project_id, status, task_count) " +
+            "VALUES (:projectId, :status, GREATEST(:delta, 0)) " +
+            "ON CONFLICT (project_id, status) DO UPDATE " +
+            "SET task_count = GREATEST(project_status_counts.task_count + :delta, 0)", nativeQuery = true)
+    int adjust(@Param("projectId") Long projectId, @Param("status") String status, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM ProjectStatusCount c WHERE c.projectId = :projectId")
+    int deleteAllByProjectId(@Param("projectId") Long projectId);
+
+    // --- Drift repair (one project id range per call) ---
+
+    // Inserts missing rows and corrects drifted ones from a fresh count over tasks
+    @Modifying
+    @Query(value = "INSERT INTO project_status_counts (project_id, status, task_count) " +
+            "SELECT t.project_id, t.status, COUNT(*) FROM tasks t " +
+            "WHERE t.project_id BETWEEN :fromId AND :toId GROUP BY t.project_id, t.status " +
+            "ON CONFLICT (project_id, status) DO UPDATE SET task_count = EXCLUDED.task_count " +
+            "WHERE project_status_counts.task_count <> EXCLUDED.task_count", nativeQuery = true)
+    int repairFromTasks(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // Zeroes rows whose status no longer has any task in the project
+    @Modifying
+    @Query(value = "UPDATE project_status_counts c SET task_count = 0 " +
+            "WHERE c.project_id BETWEEN :fromId AND :toId AND c.task_count <> 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM tasks t WHERE t.project_id = c.project_id AND t.status = c.status)",
+            nativeQuery = true)
+    int repairEmptyStatuses(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -0,0 +1,50 @@
+package com.taskmaster.repository;
+
+import com.taskmaster.model.TaskClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosure.Key> {
+
+    @Query("SELECT c.descendantId FROM TaskClosure c WHERE c.ancestorId = :taskId")
+    List<Long> findDescendantIds(@Param("taskId") Long taskId);
+
+    @Query("SELECT COUNT(c) > 0 FROM TaskClosure c WHERE c.ancestorId = :ancestorId AND c.descendantId = :descendantId")
+    boolean isDescendant(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
+    // A new task has no descendants: it inherits the parent's ancestors, one level deeper, plus the parent itself
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT c.ancestor_id, :taskId, c.depth + 1 FROM task_closure c WHERE c.descendant_id = :parentId " +
+            "UNION ALL SELECT :parentId, :taskId, 1", nativeQuery = true)
+    int insertLinksToParent(@Param("parentId") Long parentId, @Param("taskId") Long taskId);
+
+    // Cuts every link from the task's current ancestors into its subtree (the task included)
+    @Modifying
+    @Query(value = "DELETE FROM task_closure " +
+            "WHERE ancestor_id IN (SELECT a.ancestor_id FROM task_closure a WHERE a.descendant_id = :taskId) " +
+            "AND (descendant_id = :taskId OR descendant_id IN " +
+            "(SELECT d.descendant_id FROM task_closure d WHERE d.ancestor_id = :taskId))", nativeQuery = true)
+    int detachSubtree(@Param("taskId") Long taskId);
+
+    // Links the new parent and its ancestors to every task of the (detached) subtree
+    @Modifying
+    @Query(value = "INSERT INTO task_closure (ancestor_id, descendant_id, depth) " +
+            "SELECT a.ancestor_id, s.descendant_id, a.depth + s.depth + 1 " +
+            "FROM (SELECT c.ancestor_id, c.depth FROM task_closure c WHERE c.descendant_id = :parentId " +
+            "      UNION ALL SELECT CAST(:parentId AS bigint), 0) a " +
+            "CROSS JOIN (SELECT c.descendant_id, c.depth FROM task_closure c WHERE c.ancestor_id = :taskId " +
+            "      UNION ALL SELECT CAST(:taskId AS bigint), 0) s", nativeQuery = true)
+    int attachSubtree(@Param("parentId") Long parentId, @Param("taskId") Long taskId);
+
+    @Modifying
+    @Query("DELETE FROM TaskClosure c WHERE c.ancestorId IN :taskIds OR c.descendantId IN :taskIds")
+    int purgeByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+}
@@ -0,0 +1,42 @@
+package com.taskmaster.repository;
+
+import com.taskmaster.model.TaskDependency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, Long> {
+
+    // Every edge of a project as {taskId, blockedById}, read from the foreign key columns without joining tasks
+    @Query("SELECT d.task.id, d.blockedBy.id FROM TaskDependency d WHERE d.projectId = :projectId")
+    List<Object[]> findEdgesByProjectId(@Param("projectId") Long projectId);
+
+    @Query("SELECT COUNT(d) > 0 FROM TaskDependency d WHERE d.task.id = :taskId AND d.blockedBy.id = :blockedById")
+    boolean existsEdge(@Param("taskId") Long taskId, @Param("blockedById") Long blockedById);
+
+    @Query("SELECT d.blockedBy.id FROM TaskDependency d WHERE d.task.id = :taskId")
+    List<Long> findBlockerIds(@Param("taskId") Long taskId);
+
+    // Whether fromTaskId transitively waits for targetTaskId. Walks only the blockers reachable from fromTaskId
+    // (uk_task_dependencies_edge leads with task_id) and stops at the first match, never the whole project graph.
+    @Query(value = "WITH RECURSIVE blockers(id) AS (" +
+            "  SELECT d.blocked_by_id FROM task_dependencies d WHERE d.task_id = :fromTaskId" +
+            "  UNION" +
+            "  SELECT d.blocked_by_id FROM task_dependencies d JOIN blockers b ON d.task_id = b.id" +
+            ") SELECT EXISTS (SELECT 1 FROM blockers WHERE id = :targetTaskId)", nativeQuery = true)
+    boolean dependsOn(@Param("fromTaskId") Long fromTaskId, @Param("targetTaskId") Long targetTaskId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.task.id = :taskId AND d.blockedBy.id = :blockedById")
+    int deleteEdge(@Param("taskId") Long taskId, @Param("blockedById") Long blockedById);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.task.id IN :taskIds OR d.blockedBy.id IN :taskIds")
+    int purgeByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+}
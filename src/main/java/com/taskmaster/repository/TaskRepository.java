@@ -0,0 +1,155 @@
+package com.taskmaster.repository;
+
+import com.taskmaster.dto.task.TaskSummaryResponse;
+import com.taskmaster.model.Task;
+import com.taskmaster.model.User;
+import com.taskmaster.model.common.TaskStatus;
+import com.taskmaster.repository.projection.BoardColumnView;
+import com.taskmaster.repository.projection.BoardTaskView;
+import com.taskmaster.repository.projection.StatusCountView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
+
+    Page<Task> findByAssignee(User assignee, Pageable pageable);
+
+    Optional<Task> findByIdAndProjectId(Long id, Long projectId);
+
+    // Row lock for status changes: concurrent changes of one task run one after another, so each reads the status the
+    // previous one committed and the rollup and history see every transition exactly once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :id AND t.project.id = :projectId")
+    Optional<Task> findByIdAndProjectIdForUpdate(@Param("id") Long id, @Param("projectId") Long projectId);
+
+    // Resolves the owning project without loading the task (used for membership checks)
+    @Query("SELECT t.project.id FROM Task t WHERE t.id = :taskId")
+    Optional<Long> findProjectIdById(@Param("taskId") Long taskId);
+
+    // --- Subtask hierarchy ---
+
+    // Task counts per status of a task and all its descendants, in one grouped query over the closure index
+    @Query("SELECT t.status AS status, COUNT(t) AS taskCount FROM Task t WHERE t.id = :taskId OR t.id IN " +
+            "(SELECT c.descendantId FROM TaskClosure c WHERE c.ancestorId = :taskId) GROUP BY t.status")
+    List<StatusCountView> countSubtreeByStatus(@Param("taskId") Long taskId);
+
+    // --- Dependency graph ---
+
+    @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.id IN :taskIds")
+    long countByProjectIdAndIdIn(@Param("projectId") Long projectId, @Param("taskIds") Collection<Long> taskIds);
+
+    // Titles and statuses of the tasks returned by a graph traversal (caller restores traversal order)
+    @Query("SELECT new com.taskmaster.dto.task.TaskSummaryResponse(t.id, t.title, t.status) " +
+            "FROM Task t WHERE t.id IN :taskIds")
+    List<TaskSummaryResponse> findSummariesByIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // --- Board ---
+
+    // Top-N cards of each requested status column (comma-separated) in one round trip:
+    // one index-ordered LIMIT scan per column, continuing after (afterRank, afterId)
+    @Query(value = "SELECT c.* FROM unnest(string_to_array(:statuses, ',')) AS s(status) CROSS JOIN LATERAL (" +
+            "  SELECT t.id AS id, t.title AS title, t.status AS status, t.board_rank AS boardRank, t.due_date AS dueDate, " +
+            "    u.id AS assigneeId, u.username AS assigneeUsername, u.first_name AS assigneeFirstName, " +
+            "    u.last_name AS assigneeLastName, t.created_at AS createdAt, t.updated_at AS updatedAt, " +
+            "    t.comment_count AS commentCount, t.attachment_count AS attachmentCount " +
+            "  FROM tasks t LEFT JOIN users u ON u.id = t.assignee_id " +
+            "  WHERE t.project_id = :projectId AND t.status = s.status AND (t.board_rank, t.id) > (:afterRank, :afterId) " +
+            "  ORDER BY t.board_rank, t.id LIMIT :perColumn" +
+            ") c", nativeQuery = true)
+    List<BoardTaskView> findBoardCards(@Param("projectId") Long projectId,
+                                       @Param("statuses") String statuses,
+                                       @Param("afterRank") String afterRank,
+                                       @Param("afterId") long afterId,
+                                       @Param("perColumn") int perColumn);
+
+    // --- Board ranks ---
+
+    @Query("SELECT MAX(t.boardRank) FROM Task t WHERE t.project.id = :projectId AND t.status = :status AND t.id <> :excludeId")
+    Optional<String> findLastBoardRank(@Param("projectId") Long projectId, @Param("status") TaskStatus status,
+                                       @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MIN(t.boardRank) FROM Task t WHERE t.project.id = :projectId AND t.status = :status " +
+            "AND t.boardRank > :rank AND t.id <> :excludeId")
+    Optional<String> findNextBoardRank(@Param("projectId") Long projectId, @Param("status") TaskStatus status,
+                                       @Param("rank") String rank, @Param("excludeId") Long excludeId);
+
+    @Query("SELECT MAX(t.boardRank) FROM Task t WHERE t.project.id = :projectId AND t.status = :status " +
+            "AND t.boardRank < :rank AND t.id <> :excludeId")
+    Optional<String> findPreviousBoardRank(@Param("projectId") Long projectId, @Param("status") TaskStatus status,
+                                           @Param("rank") String rank, @Param("excludeId") Long excludeId);
+
+    @Query("SELECT t.boardRank FROM Task t WHERE t.id = :taskId")
+    Optional<String> findBoardRankById(@Param("taskId") Long taskId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId AND t.status = :status ORDER BY t.boardRank, t.id")
+    List<Long> findIdsInBoardOrder(@Param("projectId") Long projectId, @Param("status") TaskStatus status);
+
+    // Rewrites the ranks of many tasks in one statement; ids and ranks are parallel comma-separated lists
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE tasks t SET board_rank = v.rank " +
+            "FROM unnest(CAST(string_to_array(:ids, ',') AS bigint[]), string_to_array(:ranks, ',')) AS v(id, rank) " +
+            "WHERE t.id = v.id", nativeQuery = true)
+    int updateBoardRanks(@Param("ids") String ids, @Param("ranks") String ranks);
+
+    @Query(value = "SELECT t.project_id AS projectId, t.status AS status FROM tasks t GROUP BY t.project_id, t.status " +
+            "HAVING MAX(LENGTH(t.board_rank)) > :maxLength OR MIN(t.board_rank) = ''", nativeQuery = true)
+    List<BoardColumnView> findColumnsNeedingRebalance(@Param("maxLength") int maxLength);
+
+    // --- Chunked purge for asynchronous project deletion ---
+
+    long countByProjectId(Long projectId);
+
+    @Query("SELECT t.id FROM Task t WHERE t.project.id = :projectId ORDER BY t.id")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query("SELECT t.status AS status, COUNT(t) AS taskCount FROM Task t WHERE t.id IN :taskIds GROUP BY t.status")
+    List<StatusCountView> countByStatusForIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // Children outside a purged batch become roots, so batches can be deleted in any order
+    @Modifying
+    @Query("UPDATE Task t SET t.parent = NULL WHERE t.parent.id IN :taskIds")
+    int detachChildren(@Param("taskIds") Collection<Long> taskIds);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :taskIds")
+    int purgeByIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // --- Denormalized comment/attachment counters ---
+
+    @Modifying
+    @Query("UPDATE Task t SET t.commentCount = " +
+            "CASE WHEN t.commentCount + :delta < 0 THEN 0 ELSE t.commentCount + :delta END WHERE t.id = :taskId")
+    int adjustCommentCount(@Param("taskId") Long taskId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.attachmentCount = " +
+            "CASE WHEN t.attachmentCount + :delta < 0 THEN 0 ELSE t.attachmentCount + :delta END WHERE t.id = :taskId")
+    int adjustAttachmentCount(@Param("taskId") Long taskId, @Param("delta") int delta);
+
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM Task t")
+    long findMaxId();
+
+    // Recomputes the counters of one id range from the child tables, touching only drifted rows
+    @Modifying
+    @Query(value = "UPDATE tasks t SET comment_count = s.comment_count, attachment_count = s.attachment_count " +
+            "FROM (SELECT t2.id, " +
+            "  (SELECT COUNT(*) FROM comments c WHERE c.task_id = t2.id) AS comment_count, " +
+            "  (SELECT COUNT(*) FROM attachments a WHERE a.task_id = t2.id) AS attachment_count " +
+            "  FROM tasks t2 WHERE t2.id BETWEEN :fromId AND :toId) s " +
+            "WHERE t.id = s.id AND (t.comment_count <> s.comment_count OR t.attachment_count <> s.attachment_count)",
+            nativeQuery = true)
+    int repairCounters(@Param("fromId") long fromId, @Param("toId") long toId);
+}
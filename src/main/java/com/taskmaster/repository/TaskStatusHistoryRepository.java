@@ -0,0 +1,56 @@
+package com.taskmaster.repository;
+
+import com.taskmaster.model.TaskStatusHistory;
+import com.taskmaster.repository.projection.CycleTimeView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+
+@Repository
+public interface TaskStatusHistoryRepository extends JpaRepository<TaskStatusHistory, Long> {
+
+    // Plain insert with the statuses' ordinals; fromStatus is null for a new task
+    @Modifying
+    @Query(value = "INSERT INTO task_status_history (task_id, project_id, from_status, to_status, changed_by_id, changed_at) " +
+            "VALUES (:taskId, :projectId, :fromStatus, :toStatus, :changedById, :changedAt)", nativeQuery = true)
+    int append(@Param("taskId") Long taskId, @Param("projectId") Long projectId,
+               @Param("fromStatus") Integer fromStatus, @Param("toStatus") int toStatus,
+               @Param("changedById") Long changedById, @Param("changedAt") Instant changedAt);
+
+    /**
+     * Cycle time (first move into inProgress until the last completion) and lead time (creation until the last
+     * completion) percentiles, in hours, for tasks completed in [from, to). Completions are found through the
+     * (project_id, changed_at) index, each task's start through (task_id, changed_at).
+     */
+    @Query(value = "WITH done AS (" +
+            "  SELECT h.task_id, MAX(h.changed_at) AS completed_at FROM task_status_history h " +
+            "  WHERE h.project_id = :projectId AND h.changed_at >= :from AND h.changed_at < :to " +
+            "  AND h.to_status = :completed GROUP BY h.task_id" +
+            "), spans AS (" +
+            "  SELECT CAST(EXTRACT(EPOCH FROM d.completed_at - (SELECT MIN(s.changed_at) FROM task_status_history s " +
+            "      WHERE s.task_id = d.task_id AND s.to_status = :inProgress AND s.changed_at <= d.completed_at)) " +
+            "    AS double precision) / 3600 AS cycle_hours, " +
+            "    CAST(EXTRACT(EPOCH FROM d.completed_at - t.created_at) AS double precision) / 3600 AS lead_hours " +
+            "  FROM done d JOIN tasks t ON t.id = d.task_id" +
+            ") SELECT COUNT(*) AS completedTasks, " +
+            "  percentile_cont(0.50) WITHIN GROUP (ORDER BY cycle_hours) AS cycleP50, " +
+            "  percentile_cont(0.75) WITHIN GROUP (ORDER BY cycle_hours) AS cycleP75, " +
+            "  percentile_cont(0.85) WITHIN GROUP (ORDER BY cycle_hours) AS cycleP85, " +
+            "  percentile_cont(0.95) WITHIN GROUP (ORDER BY cycle_hours) AS cycleP95, " +
+            "  percentile_cont(0.50) WITHIN GROUP (ORDER BY lead_hours) AS leadP50, " +
+            "  percentile_cont(0.75) WITHIN GROUP (ORDER BY lead_hours) AS leadP75, " +
+            "  percentile_cont(0.85) WITHIN GROUP (ORDER BY lead_hours) AS leadP85, " +
+            "  percentile_cont(0.95) WITHIN GROUP (ORDER BY lead_hours) AS leadP95 " +
+            "FROM spans", nativeQuery = true)
+    CycleTimeView computeCycleTimes(@Param("projectId") Long projectId, @Param("from") Instant from, @Param("to") Instant to,
+                                    @Param("inProgress") int inProgress, @Param("completed") int completed);
+
+    @Modifying
+    @Query("DELETE FROM TaskStatusHistory h WHERE h.taskId IN :taskIds")
+    int purgeByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+}
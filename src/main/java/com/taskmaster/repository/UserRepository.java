@@ -1,8 +1,18 @@
 package com.taskmaster.repository; // Updated package
 
+import com.taskmaster.dto.user.UserSummaryResponse;
 import com.taskmaster.model.User; // Updated import
+import com.taskmaster.repository.projection.MemberSummaryView;
+import com.taskmaster.repository.projection.PasswordHashPrefixView;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +22,65 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
     Optional<User> findByUsernameOrEmail(String username, String email);
-}
\ No newline at end of file
+
+    // Validates a batch of ids in one round trip
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
+
+    // Keyset page of a project's members ordered by user id: walks idx_project_members_project_user from the cursor
+    // and stops after the limit, so a page costs the same at any depth. The lower-case prefix filter has no functional
+    // index and is checked per member row walked.
+    @Query(value = "SELECT u.id AS id, u.username AS username, u.first_name AS firstName, u.last_name AS lastName " +
+            "FROM project_members pm JOIN users u ON u.id = pm.user_id " +
+            "WHERE pm.project_id = :projectId AND pm.user_id > :afterId " +
+            "AND (LOWER(u.username) LIKE :pattern ESCAPE '\\' OR LOWER(u.first_name) LIKE :pattern ESCAPE '\\' " +
+            "OR LOWER(u.last_name) LIKE :pattern ESCAPE '\\') " +
+            "ORDER BY pm.user_id LIMIT :limit", nativeQuery = true)
+    List<MemberSummaryView> findMemberSummaries(@Param("projectId") Long projectId,
+                                                @Param("afterId") long afterId,
+                                                @Param("pattern") String pattern,
+                                                @Param("limit") int limit);
+
+    // --- Storage usage counters ---
+
+    @Query("SELECT u.storageUsedBytes FROM User u WHERE u.id = :userId")
+    Optional<Long> findStorageUsedBytesById(@Param("userId") Long userId);
+
+    // Conditional increment: matches no row when the upload would push the user over their quota
+    @Modifying
+    @Query("UPDATE User u SET u.storageUsedBytes = u.storageUsedBytes + :bytes " +
+            "WHERE u.id = :userId AND u.storageUsedBytes + :bytes <= :quotaBytes")
+    int reserveStorage(@Param("userId") Long userId, @Param("bytes") long bytes, @Param("quotaBytes") long quotaBytes);
+
+    @Modifying
+    @Query("UPDATE User u SET u.storageUsedBytes = " +
+            "CASE WHEN u.storageUsedBytes > :bytes THEN u.storageUsedBytes - :bytes ELSE 0 END " +
+            "WHERE u.id = :userId")
+    int releaseStorage(@Param("userId") Long userId, @Param("bytes") long bytes);
+
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    long findMaxId();
+
+    // Recomputes the counters of one id range from the attachments table, touching only drifted rows
+    @Modifying
+    @Query(value = "UPDATE users u SET storage_used_bytes = COALESCE(s.used_bytes, 0) " +
+            "FROM users u2 LEFT JOIN (" +
+            "  SELECT a.uploader_id, SUM(a.file_size) AS used_bytes FROM attachments a " +
+            "  WHERE a.uploader_id BETWEEN :fromId AND :toId GROUP BY a.uploader_id" +
+            ") s ON s.uploader_id = u2.id " +
+            "WHERE u.id = u2.id AND u.id BETWEEN :fromId AND :toId " +
+            "AND u.storage_used_bytes <> COALESCE(s.used_bytes, 0)", nativeQuery = true)
+    int reconcileStorageUsage(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    // --- Password hashes ---
+
+    // Rehash on login: only the password column, so a concurrently updated row is not overwritten with stale fields
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :userId")
+    int updatePassword(@Param("userId") Long userId, @Param("password") String password);
+
+    @Query("SELECT SUBSTRING(u.password, 1, LOCATE('$', u.password) + 5) AS hashPrefix, COUNT(u) AS users FROM User u " +
+            "GROUP BY SUBSTRING(u.password, 1, LOCATE('$', u.password) + 5)")
+    List<PasswordHashPrefixView> countByPasswordHashPrefix();
+}
@@ -0,0 +1,14 @@
+package com.taskmaster.repository.projection;
+
+/**
+ * What serving an attachment's file needs: the project to authorize against and where the file lives, without
+ * loading the task (its description is a large object that cannot be read outside a transaction).
+ */
+public interface AttachmentAccessView {
+
+    Long getProjectId();
+
+    String getFilePath();
+
+    String getFileType();
+}
@@ -0,0 +1,13 @@
+package com.taskmaster.repository.projection;
+
+/**
+ * The storage-related columns of an attachment, for bulk operations that must not hydrate entities.
+ */
+public interface AttachmentFileView {
+
+    String getFilePath();
+
+    Long getFileSize();
+
+    Long getUploaderId();
+}
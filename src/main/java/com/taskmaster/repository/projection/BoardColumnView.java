@@ -0,0 +1,11 @@
+package com.taskmaster.repository.projection;
+
+/**
+ * Identifies one board column: the tasks of a project with a given status.
+ */
+public interface BoardColumnView {
+
+    Long getProjectId();
+
+    String getStatus();
+}
@@ -0,0 +1,36 @@
+package com.taskmaster.repository.projection;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A task card on the board: the task columns without the description, plus the assignee summary.
+ */
+public interface BoardTaskView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getStatus();
+
+    String getBoardRank();
+
+    LocalDate getDueDate();
+
+    Long getAssigneeId();
+
+    String getAssigneeUsername();
+
+    String getAssigneeFirstName();
+
+    String getAssigneeLastName();
+
+    Instant getCreatedAt();
+
+    Instant getUpdatedAt();
+
+    int getCommentCount();
+
+    int getAttachmentCount();
+}
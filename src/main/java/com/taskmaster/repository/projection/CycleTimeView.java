@@ -0,0 +1,25 @@
+package com.taskmaster.repository.projection;
+
+/**
+ * Result of the cycle-time aggregate: completed tasks and duration percentiles in hours (null without data).
+ */
+public interface CycleTimeView {
+
+    long getCompletedTasks();
+
+    Double getCycleP50();
+
+    Double getCycleP75();
+
+    Double getCycleP85();
+
+    Double getCycleP95();
+
+    Double getLeadP50();
+
+    Double getLeadP75();
+
+    Double getLeadP85();
+
+    Double getLeadP95();
+}
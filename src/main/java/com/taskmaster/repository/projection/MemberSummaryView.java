@@ -0,0 +1,15 @@
+package com.taskmaster.repository.projection;
+
+/**
+ * A project member as listed on the members page.
+ */
+public interface MemberSummaryView {
+
+    Long getId();
+
+    String getUsername();
+
+    String getFirstName();
+
+    String getLastName();
+}
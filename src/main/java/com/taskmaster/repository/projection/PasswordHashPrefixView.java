@@ -0,0 +1,12 @@
+package com.taskmaster.repository.projection;
+
+/**
+ * Number of users per password hash prefix, the part up to the BCrypt cost (e.g. {@code {bcrypt}$2a$12} or a legacy
+ * unprefixed {@code $2a$10}); never any salt or hash characters.
+ */
+public interface PasswordHashPrefixView {
+
+    String getHashPrefix();
+
+    Long getUsers();
+}
@@ -0,0 +1,27 @@
+package com.taskmaster.repository.projection;
+
+import java.time.Instant;
+
+/**
+ * One row of the grouped project statistics query; one count column per TaskStatus.
+ */
+public interface ProjectTaskStatsView {
+
+    Long getProjectId();
+
+    long getOpenCount();
+
+    long getInProgressCount();
+
+    long getReviewCount();
+
+    long getCompletedCount();
+
+    long getArchivedCount();
+
+    long getOverdueCount();
+
+    long getMemberCount();
+
+    Instant getLastActivityAt();
+}
@@ -0,0 +1,13 @@
+package com.taskmaster.repository.projection;
+
+import com.taskmaster.model.common.TaskStatus;
+
+/**
+ * Number of tasks with one status, from a grouped count over a set of tasks.
+ */
+public interface StatusCountView {
+
+    TaskStatus getStatus();
+
+    long getTaskCount();
+}
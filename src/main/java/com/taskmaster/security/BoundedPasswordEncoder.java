@@ -0,0 +1,119 @@
+package com.taskmaster.security;
+
+import com.taskmaster.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs every hash of the delegate on a dedicated fixed-size pool, so no matter how many requests log in or register
+ * at once, at most that many cores are spent hashing. Callers wait for their turn up to a timeout; when the queue is
+ * full or the wait times out the request is answered with 429 instead of piling up. Hash time and queue wait are
+ * recorded as {@code taskmaster.password.hash} and {@code taskmaster.password.hash.wait}.
+ * <p>
+ * {@link #awaitMatchesTime()} stands in for a check against an account that does not exist: it goes through the same
+ * queue, timeout and 429 and holds a pool thread for as long as {@link #matches} currently takes, without hashing.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private volatile long matchesNanos;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, ThreadPoolTaskExecutor executor, long timeoutMillis,
+                                  MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+        this.encodeTimer = hashTimer("encode", meterRegistry);
+        this.matchesTimer = hashTimer("matches", meterRegistry);
+        this.waitTimer = Timer.builder("taskmaster.password.hash.wait")
+                .description("Time password hashes spent queued for the hash pool")
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("taskmaster.password.hash")
+                .description("Duration of password hash computations")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return call(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return call(() -> matchesTimer.recordCallable(() -> {
+            long startedAt = System.nanoTime();
+            boolean matches = delegate.matches(rawPassword, encodedPassword);
+            onMatchesTime(System.nanoTime() - startedAt);
+            return matches;
+        }));
+    }
+
+    /** Admitted and rejected like {@link #matches}, then sleeps on the pool thread for the average check time. */
+    public void awaitMatchesTime() {
+        call(() -> {
+            TimeUnit.NANOSECONDS.sleep(matchesNanos);
+            return null;
+        });
+    }
+
+    // Moving average of the hash itself, without the queue wait the caller pays anyway
+    private void onMatchesTime(long nanos) {
+        long average = matchesNanos;
+        matchesNanos = average == 0 ? nanos : (average * 7 + nanos) / 8;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T call(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (TaskRejectedException e) {
+            throw busy();
+        }
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw busy();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a password hash", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private static TooManyRequestsException busy() {
+        return new TooManyRequestsException("Too many sign-ins in progress. Retry after 1 second(s).", 1);
+    }
+}
@@ -0,0 +1,130 @@
+package com.taskmaster.security;
+
+import com.taskmaster.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-authentication guard for {@code POST /api/auth/login}. Failed attempts are counted per username/email and per
+ * client address in sliding windows; once either is over its limit further attempts are rejected with 429 before any
+ * user lookup or password hash. A success clears the username's failures, not the address's (one owned account must
+ * not unlock guessing at others). Attempts for unknown accounts take a slot on the hash pool for as long as a real
+ * password check takes, so they queue, time out and get 429 exactly like known accounts, without spending a hash.
+ */
+@Component
+public class LoginAttemptGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptGuard.class);
+
+    @Autowired
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.login-guard.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.login-guard.window-seconds:900}")
+    private long windowSeconds;
+
+    @Value("${app.login-guard.max-failures-per-username:10}")
+    private int maxFailuresPerUsername;
+
+    @Value("${app.login-guard.max-failures-per-address:100}")
+    private int maxFailuresPerAddress;
+
+    private final ConcurrentMap<String, SlidingWindowCounter> failuresByUsername = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, SlidingWindowCounter> failuresByAddress = new ConcurrentHashMap<>();
+    private Counter rejectedByUsername;
+    private Counter rejectedByAddress;
+
+    @PostConstruct
+    public void init() {
+        rejectedByUsername = rejectedCounter("username");
+        rejectedByAddress = rejectedCounter("address");
+        // Seed the unknown-user delay with one real check at the configured cost
+        String hash = passwordEncoder.encode(UUID.randomUUID().toString());
+        long startedAt = System.nanoTime();
+        passwordEncoder.matches(UUID.randomUUID().toString(), hash);
+        logger.info("Login guard: a password check takes {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    private Counter rejectedCounter(String scope) {
+        return Counter.builder("taskmaster.login.rejected")
+                .description("Login attempts rejected by the login guard before the password was checked")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    /** Throws {@link TooManyRequestsException} when the username or the client address is over its failure limit. */
+    public void checkAllowed(String usernameOrEmail, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        SlidingWindowCounter byUsername = failuresByUsername.get(key(usernameOrEmail));
+        if (byUsername != null && byUsername.estimate(now) >= maxFailuresPerUsername) {
+            rejectedByUsername.increment();
+            throw rejected(byUsername.millisUntilBelow(maxFailuresPerUsername, now));
+        }
+        SlidingWindowCounter byAddress = failuresByAddress.get(clientAddress);
+        if (byAddress != null && byAddress.estimate(now) >= maxFailuresPerAddress) {
+            rejectedByAddress.increment();
+            throw rejected(byAddress.millisUntilBelow(maxFailuresPerAddress, now));
+        }
+    }
+
+    public void recordFailure(String usernameOrEmail, String clientAddress) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        failuresByUsername.computeIfAbsent(key(usernameOrEmail), k -> new SlidingWindowCounter(windowMillis)).increment(now);
+        failuresByAddress.computeIfAbsent(clientAddress, k -> new SlidingWindowCounter(windowMillis)).increment(now);
+    }
+
+    public void recordSuccess(String usernameOrEmail) {
+        failuresByUsername.remove(key(usernameOrEmail));
+    }
+
+    /**
+     * Blocks for as long as a password check currently takes, admitted through the hash pool like a real check
+     * (so it may throw {@link TooManyRequestsException}), without computing a hash.
+     */
+    public void awaitPasswordCheckTime() {
+        passwordEncoder.awaitMatchesTime();
+    }
+
+    /** Drops counters whose windows hold no failures any more; returns how many were removed. */
+    public int evictExpired() {
+        long now = System.currentTimeMillis();
+        int before = failuresByUsername.size() + failuresByAddress.size();
+        failuresByUsername.values().removeIf(counter -> counter.isExpired(now));
+        failuresByAddress.values().removeIf(counter -> counter.isExpired(now));
+        return before - failuresByUsername.size() - failuresByAddress.size();
+    }
+
+    private static String key(String usernameOrEmail) {
+        return usernameOrEmail.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static TooManyRequestsException rejected(long retryAfterMillis) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMillis + 999));
+        return new TooManyRequestsException(
+                "Too many failed login attempts. Retry after " + retryAfterSeconds + " second(s).", retryAfterSeconds);
+    }
+}
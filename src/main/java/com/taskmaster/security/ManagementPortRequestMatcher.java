@@ -0,0 +1,32 @@
+package com.taskmaster.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.web.context.WebServerInitializedEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Matches requests received on the separate management port ({@code management.server.port}), so endpoints that must
+ * stay off the public API port can be opened there only. Matches nothing while management shares the API port.
+ */
+@Component
+public class ManagementPortRequestMatcher implements RequestMatcher, ApplicationListener<WebServerInitializedEvent> {
+
+    private static final String MANAGEMENT_NAMESPACE = "management";
+
+    private volatile int managementPort = -1;
+
+    // The management server is started by a child context; its event reaches this listener through the parent
+    @Override
+    public void onApplicationEvent(WebServerInitializedEvent event) {
+        if (MANAGEMENT_NAMESPACE.equals(event.getApplicationContext().getServerNamespace())) {
+            managementPort = event.getWebServer().getPort();
+        }
+    }
+
+    @Override
+    public boolean matches(HttpServletRequest request) {
+        return request.getLocalPort() == managementPort;
+    }
+}
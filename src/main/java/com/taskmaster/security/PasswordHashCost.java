@@ -0,0 +1,86 @@
+package com.taskmaster.security;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The BCrypt cost new hashes are written with: {@code app.password-hash.cost}, or with {@code cost=0} the highest
+ * cost between min-cost and max-cost whose hash still fits {@code target-millis} on this machine, measured at startup.
+ * Each step doubles the work, so the measurement at min-cost is extrapolated rather than repeated at every cost.
+ */
+@Component
+public class PasswordHashCost {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashCost.class);
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("(?:\\{bcrypt})?\\$2[aby]?\\$(\\d\\d)\\$");
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.password-hash.cost:10}")
+    private int configuredCost;
+
+    @Value("${app.password-hash.target-millis:250}")
+    private long targetMillis;
+
+    @Value("${app.password-hash.min-cost:10}")
+    private int minCost;
+
+    @Value("${app.password-hash.max-cost:16}")
+    private int maxCost;
+
+    private int targetCost;
+
+    @PostConstruct
+    public void init() {
+        if (configuredCost > 0) {
+            targetCost = configuredCost;
+        } else {
+            targetCost = measure();
+        }
+        Gauge.builder("taskmaster.password.hash.target.cost", this, PasswordHashCost::getTargetCost)
+                .description("BCrypt cost new and rehashed passwords are written with")
+                .register(meterRegistry);
+    }
+
+    private int measure() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minCost);
+        long nanos = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode("calibration");
+            nanos = Math.min(nanos, System.nanoTime() - startedAt);
+        }
+        long budgetNanos = TimeUnit.MILLISECONDS.toNanos(targetMillis);
+        int cost = minCost;
+        while (cost < maxCost && nanos * 2 <= budgetNanos) {
+            cost++;
+            nanos *= 2;
+        }
+        logger.info("Password hash cost {} (~{} ms per hash, budget {} ms)", cost, TimeUnit.NANOSECONDS.toMillis(nanos), targetMillis);
+        return cost;
+    }
+
+    public int getTargetCost() {
+        return targetCost;
+    }
+
+    /** The BCrypt cost of an encoded password, with or without the {@code {bcrypt}} prefix; empty for other schemes. */
+    public static OptionalInt costOf(String encodedPassword) {
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.lookingAt() ? OptionalInt.of(Integer.parseInt(matcher.group(1))) : OptionalInt.empty();
+    }
+}
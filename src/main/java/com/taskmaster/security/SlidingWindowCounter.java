@@ -0,0 +1,85 @@
+package com.taskmaster.security;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sliding-window event counter: the count of the current fixed window plus the previous window's count weighted by
+ * how much of it still overlaps the sliding window. Window index and both counts are packed into one
+ * {@link AtomicLong} (32 + 16 + 16 bits, counts saturate at 65535), so updates are a CAS and need no lock.
+ */
+final class SlidingWindowCounter {
+
+    private static final int MAX_COUNT = 0xFFFF;
+
+    private final AtomicLong state = new AtomicLong();
+    private final long windowMillis;
+
+    SlidingWindowCounter(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    void increment(long nowMillis) {
+        long window = nowMillis / windowMillis;
+        while (true) {
+            long current = state.get();
+            long rolled = roll(current, window);
+            long next = pack(window, Math.min(MAX_COUNT, count(rolled) + 1), previous(rolled));
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
+    }
+
+    double estimate(long nowMillis) {
+        long window = nowMillis / windowMillis;
+        long rolled = roll(state.get(), window);
+        double elapsed = (double) (nowMillis - window * windowMillis) / windowMillis;
+        return previous(rolled) * (1 - elapsed) + count(rolled);
+    }
+
+    /** Milliseconds until {@link #estimate} drops below {@code limit}, assuming no further events. */
+    long millisUntilBelow(int limit, long nowMillis) {
+        long window = nowMillis / windowMillis;
+        long rolled = roll(state.get(), window);
+        int count = count(rolled);
+        int previous = previous(rolled);
+        long windowStart = window * windowMillis;
+        long belowAt;
+        if (count < limit) {
+            belowAt = previous == 0 ? nowMillis
+                    : windowStart + (long) Math.ceil((1 - (double) (limit - count) / previous) * windowMillis) + 1;
+        } else {
+            belowAt = windowStart + windowMillis + (long) Math.ceil((1 - (double) limit / count) * windowMillis) + 1;
+        }
+        return Math.max(0, belowAt - nowMillis);
+    }
+
+    /** True once neither window holds events any more. */
+    boolean isExpired(long nowMillis) {
+        return windowOf(state.get()) < nowMillis / windowMillis - 1;
+    }
+
+    private static long roll(long state, long window) {
+        long stateWindow = windowOf(state);
+        if (stateWindow == window) {
+            return state;
+        }
+        return pack(window, 0, stateWindow == window - 1 ? count(state) : 0);
+    }
+
+    private static long pack(long window, int count, int previous) {
+        return (window << 32) | ((long) count << 16) | previous;
+    }
+
+    private static long windowOf(long state) {
+        return state >>> 32;
+    }
+
+    private static int count(long state) {
+        return (int) (state >>> 16) & MAX_COUNT;
+    }
+
+    private static int previous(long state) {
+        return (int) state & MAX_COUNT;
+    }
+}
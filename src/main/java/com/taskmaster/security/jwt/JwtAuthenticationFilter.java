@@ -1,5 +1,6 @@
 package com.taskmaster.security.jwt; // Updated package
 
+import com.taskmaster.diagnostics.jfr.JwtAuthenticationEvent;
 import com.taskmaster.security.CustomUserDetailsService; // Updated import
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -33,11 +34,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        JwtAuthenticationEvent event = new JwtAuthenticationEvent();
+        event.begin();
+        String outcome = "anonymous";
         try {
             String jwt = getJwtFromRequest(request);
 
+            if (StringUtils.hasText(jwt)) {
+                outcome = "rejected";
+            }
             if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
                 Long userId = tokenProvider.getUserIdFromJWT(jwt);
+                event.userId = userId;
 
                 UserDetails userDetails = customUserDetailsService.loadUserById(userId);
                 UsernamePasswordAuthenticationToken authentication =
@@ -45,10 +53,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
+                outcome = "authenticated";
             }
         } catch (Exception ex) {
+            outcome = "error";
             logger.error("Could not set user authentication in security context", ex);
         }
+        event.end();
+        if (event.shouldCommit()) {
+            event.outcome = outcome;
+            event.uri = request.getRequestURI();
+            event.commit();
+        }
 
         filterChain.doFilter(request, response);
     }
@@ -4,9 +4,11 @@ import com.taskmaster.security.UserPrincipal; // Updated import
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
@@ -26,6 +28,9 @@ public class JwtTokenProvider {
 
     private SecretKey key;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @PostConstruct
     public void init() {
         // Same key generation logic as before
@@ -78,15 +83,24 @@ public class JwtTokenProvider {
             return true;
         } catch (SignatureException ex) {
             logger.error("Invalid JWT signature");
+            recordValidationFailure("signature");
         } catch (MalformedJwtException ex) {
             logger.error("Invalid JWT token");
+            recordValidationFailure("malformed");
         } catch (ExpiredJwtException ex) {
             logger.error("Expired JWT token");
+            recordValidationFailure("expired");
         } catch (UnsupportedJwtException ex) {
             logger.error("Unsupported JWT token");
+            recordValidationFailure("unsupported");
         } catch (IllegalArgumentException ex) {
             logger.error("JWT claims string is empty.");
+            recordValidationFailure("empty");
         }
         return false;
     }
+
+    private void recordValidationFailure(String reason) {
+        meterRegistry.counter("taskmaster.jwt.validation.failures", "reason", reason).increment();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.taskmaster.service;
+
+import com.taskmaster.dto.analytics.CycleTimeResponse;
+import com.taskmaster.dto.analytics.FlowResponse;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+public interface AnalyticsService {
+
+    /**
+     * Cycle-time and lead-time percentiles of the tasks completed between from and to (inclusive, UTC dates),
+     * from the status history in one aggregate query.
+     */
+    CycleTimeResponse getCycleTime(Long projectId, LocalDate from, LocalDate to, Long currentUserId);
+
+    /**
+     * Per-day task counts by status (cumulative flow) and remaining tasks (burndown) between from and to,
+     * read only from the daily snapshot rows.
+     */
+    FlowResponse getFlow(Long projectId, LocalDate from, LocalDate to, Long currentUserId);
+
+    // --- Daily snapshots (called by ProjectFlowSnapshotJob) ---
+
+    // Copies the current rollups of the given projects into the day's snapshot; returns the number of rows written
+    int snapshotProjects(LocalDate day, Collection<Long> projectIds);
+
+    // Snapshots the projects of an id range whose rollups differ from their latest snapshot
+    int snapshotChangedProjects(LocalDate day, long fromId, long toId);
+}
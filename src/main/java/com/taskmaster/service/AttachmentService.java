@@ -14,5 +14,7 @@ public interface AttachmentService {
 
     Resource downloadAttachmentFile(Long attachmentId, Long currentUserId); // Add user ID for auth check
 
+    Resource getAttachmentThumbnail(Long attachmentId, Long currentUserId);
+
     void deleteAttachment(Long attachmentId, Long currentUserId);
 }
\ No newline at end of file
@@ -1,8 +1,9 @@
 package com.taskmaster.service;
 
+import com.taskmaster.dto.auth.LoginRequest;
 import com.taskmaster.dto.auth.RegisterRequest;
 
 public interface AuthService {
-    String authenticateUser(LoginRequest loginRequest);
+    String authenticateUser(LoginRequest loginRequest, String clientAddress);
     void registerUser(RegisterRequest registerRequest);
 }
\ No newline at end of file
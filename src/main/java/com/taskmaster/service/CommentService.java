@@ -1,5 +1,6 @@
 package com.taskmaster.service;
 
+import com.taskmaster.dto.CursorPagedResponse;
 import com.taskmaster.dto.PagedResponse;
 import com.taskmaster.dto.comment.CommentCreateRequest;
 import com.taskmaster.dto.comment.CommentResponse;
@@ -11,5 +12,8 @@ public interface CommentService {
 
     PagedResponse<CommentResponse> getCommentsByTaskId(Long taskId, Long currentUserId, Pageable pageable);
 
+    // Keyset-paginated listing ordered by (createdAt, id); cursor is null for the first page
+    CursorPagedResponse<CommentResponse> scrollCommentsByTaskId(Long taskId, Long currentUserId, String cursor, int size);
+
     void deleteComment(Long commentId, Long currentUserId);
 }
\ No newline at end of file
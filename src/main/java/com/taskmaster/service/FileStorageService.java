@@ -27,6 +27,30 @@ public interface FileStorageService {
      */
     void deleteFile(String filePath);
 
+    /**
+     * Checks whether a file exists in storage.
+     * @param filePath The unique path/identifier of the file.
+     * @return true if the file exists and is readable.
+     */
+    boolean fileExists(String filePath);
+
+    /**
+     * Resolves the path of a derived file (e.g. a thumbnail) stored alongside the original. The derivative may not exist yet.
+     * @param filePath The unique path/identifier of the original file.
+     * @param variant The derivative name (e.g. "thumb").
+     * @return The path/identifier of the derivative.
+     */
+    String getDerivativePath(String filePath, String variant);
+
+    /**
+     * Stores a derived file alongside the original, replacing any previous version atomically.
+     * @param filePath The unique path/identifier of the original file.
+     * @param variant The derivative name (e.g. "thumb").
+     * @param content The derived file content.
+     * @return The path/identifier of the derivative.
+     */
+    String storeDerivative(String filePath, String variant, byte[] content);
+
     /**
      * Gets the base path for file storage (relevant for local storage).
      * @return The Path object for the base directory.
@@ -0,0 +1,7 @@
+package com.taskmaster.service;
+
+/**
+ * Published inside the requesting transaction; ProjectDeletionWorker starts the purge after it commits.
+ */
+public record ProjectDeletionRequestedEvent(Long projectId) {
+}
@@ -0,0 +1,37 @@
+package com.taskmaster.service;
+
+import com.taskmaster.dto.project.ProjectDeletionResponse;
+
+import java.util.List;
+
+public interface ProjectDeletionService {
+
+    /**
+     * Marks the project as deleting and schedules the background purge once the transaction commits.
+     * Requesting the deletion of a project that is already being deleted returns its progress
+     * (and retries it if the previous attempt failed). The caller must have verified ownership.
+     */
+    ProjectDeletionResponse requestDeletion(Long projectId, Long requestedByUserId);
+
+    ProjectDeletionResponse getDeletion(Long projectId, Long currentUserId);
+
+    // --- Background purge (driven by ProjectDeletionWorker, one short transaction per call) ---
+
+    List<Long> findUnfinishedDeletions();
+
+    void markRunning(Long projectId);
+
+    /**
+     * Deletes the comments, attachments and tasks of the next chunk of tasks and reclaims their files after commit.
+     * @return The number of tasks deleted; 0 once the project has no tasks left.
+     */
+    int purgeNextChunk(Long projectId, int chunkSize);
+
+    /**
+     * Removes the memberships and the project row once no tasks remain.
+     * @return false if tasks were found (e.g. created concurrently) and purging must continue.
+     */
+    boolean completeDeletion(Long projectId);
+
+    void markFailed(Long projectId, String error);
+}
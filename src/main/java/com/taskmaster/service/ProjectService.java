@@ -1,23 +1,48 @@
 package com.taskmaster.service;
 
+import com.taskmaster.dto.CursorPagedResponse;
 import com.taskmaster.dto.PagedResponse;
+import com.taskmaster.dto.project.BulkMembersResponse;
 import com.taskmaster.dto.project.ProjectCreateRequest;
+import com.taskmaster.dto.project.ProjectDeletionResponse;
 import com.taskmaster.dto.project.ProjectResponse;
+import com.taskmaster.dto.project.ProjectStatusCountsResponse;
+import com.taskmaster.dto.user.UserSummaryResponse;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface ProjectService {
 
     ProjectResponse createProject(ProjectCreateRequest createRequest, Long ownerUserId);
 
     ProjectResponse getProjectById(Long projectId, Long currentUserId);
 
-    PagedResponse<ProjectResponse> getProjectsForUser(Long userId, Pageable pageable);
+    /**
+     * @param includeStats Also computes per-status task counts, overdue and member counts and last activity,
+     *                     with one grouped query for the whole page.
+     */
+    PagedResponse<ProjectResponse> getProjectsForUser(Long userId, Pageable pageable, boolean includeStats);
+
+    ProjectStatusCountsResponse getProjectStatusCounts(Long projectId, Long currentUserId);
 
     ProjectResponse updateProject(Long projectId, ProjectCreateRequest updateRequest, Long currentUserId);
 
-    void deleteProject(Long projectId, Long currentUserId);
+    /**
+     * Starts an asynchronous deletion: the project is hidden immediately and purged in the background.
+     */
+    ProjectDeletionResponse deleteProject(Long projectId, Long currentUserId);
 
     void addMemberToProject(Long projectId, Long userIdToAdd, Long currentUserId);
 
     void removeMemberFromProject(Long projectId, Long userIdToRemove, Long currentUserId);
+
+    /**
+     * Lists a project's members in join order (user id), optionally filtered by a prefix of the username, first or last name.
+     */
+    CursorPagedResponse<UserSummaryResponse> getProjectMembers(Long projectId, Long currentUserId, String query, String cursor, int size);
+
+    BulkMembersResponse addMembersToProject(Long projectId, List<Long> userIdsToAdd, Long currentUserId);
+
+    BulkMembersResponse removeMembersFromProject(Long projectId, List<Long> userIdsToRemove, Long currentUserId);
 }
\ No newline at end of file
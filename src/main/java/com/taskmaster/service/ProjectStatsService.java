@@ -0,0 +1,27 @@
+package com.taskmaster.service;
+
+import com.taskmaster.dto.project.ProjectStatusCountsResponse;
+import com.taskmaster.model.common.TaskStatus;
+
+import java.util.Map;
+
+public interface ProjectStatsService {
+
+    /**
+     * Reads the per-status task counts of a project from the rollup table (constant time, independent of task count).
+     * The caller must have verified project membership.
+     */
+    ProjectStatusCountsResponse getStatusCounts(Long projectId);
+
+    /**
+     * Moves one task between status buckets. Must run inside the transaction that changes the task;
+     * either status may be null for tasks being created or deleted.
+     */
+    void recordStatusChange(Long projectId, TaskStatus oldStatus, TaskStatus newStatus);
+
+    // Subtracts bulk-deleted tasks from their status buckets, inside the deleting transaction
+    void recordTasksDeleted(Long projectId, Map<TaskStatus, Long> deletedByStatus);
+
+    // Recomputes the rollups of a project id range from the tasks table; returns the number of repaired rows
+    int repairStatusCounts(long fromId, long toId);
+}
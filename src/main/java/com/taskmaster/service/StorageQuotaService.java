@@ -0,0 +1,28 @@
+package com.taskmaster.service;
+
+import com.taskmaster.dto.storage.StorageUsageResponse;
+
+public interface StorageQuotaService {
+
+    /**
+     * Adds the bytes to the project and user counters, or rejects the upload if either quota would be exceeded.
+     * Commits in its own short transaction, so the counter rows are not locked while the file is written; the caller
+     * must {@link #release} the bytes if storing the file or saving the attachment fails.
+     */
+    void reserve(Long projectId, Long userId, long bytes);
+
+    /**
+     * Subtracts the bytes of a deleted attachment (or of a failed upload) from the project and user counters.
+     */
+    void release(Long projectId, Long userId, long bytes);
+
+    StorageUsageResponse getProjectUsage(Long projectId, Long currentUserId);
+
+    StorageUsageResponse getUserUsage(Long userId);
+
+    // --- Reconciliation (called in batches by StorageUsageReconciliationJob) ---
+
+    int reconcileProjectUsage(long fromId, long toId);
+
+    int reconcileUserUsage(long fromId, long toId);
+}
@@ -0,0 +1,25 @@
+package com.taskmaster.service;
+
+import com.taskmaster.dto.task.TaskSummaryResponse;
+
+import java.util.List;
+
+public interface TaskDependencyService {
+
+    /**
+     * Records that a task cannot start before another task of the same project is done.
+     * Rejects edges that would close a cycle; returns the task's direct blockers afterwards.
+     */
+    List<TaskSummaryResponse> addDependency(Long projectId, Long taskId, Long blockedByTaskId, Long currentUserId);
+
+    void removeDependency(Long projectId, Long taskId, Long blockedByTaskId, Long currentUserId);
+
+    // Tasks the given task waits for, nearest first, answered from the cached project graph
+    List<TaskSummaryResponse> getBlockers(Long projectId, Long taskId, boolean transitive, int limit, Long currentUserId);
+
+    // Tasks waiting for the given task, nearest first
+    List<TaskSummaryResponse> getDependents(Long projectId, Long taskId, boolean transitive, int limit, Long currentUserId);
+
+    // Longest chain of dependencies in the project, first task to do first
+    List<TaskSummaryResponse> getCriticalPath(Long projectId, Long currentUserId);
+}
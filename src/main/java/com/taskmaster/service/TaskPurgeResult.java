@@ -0,0 +1,7 @@
+package com.taskmaster.service;
+
+/**
+ * Row counts of one TaskPurgeService batch, and the attachment bytes given back to the uploaders.
+ */
+public record TaskPurgeResult(int deletedTasks, int deletedComments, int deletedAttachments, long reclaimedBytes) {
+}
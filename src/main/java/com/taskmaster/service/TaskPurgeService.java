@@ -0,0 +1,15 @@
+package com.taskmaster.service;
+
+import java.util.Collection;
+
+public interface TaskPurgeService {
+
+    /**
+     * Deletes a batch of tasks of one project with bulk statements instead of entity cascades: comments,
+     * attachments, dependency edges, hierarchy links and status history first, then the tasks. Uploaders get their storage
+     * back, and stored files are removed once the transaction commits. Must run inside the caller's transaction.
+     * With projectRemains the project's storage counter and status rollups are adjusted as well; project
+     * deletion skips them because those rows go away with the project.
+     */
+    TaskPurgeResult purgeTasks(Long projectId, Collection<Long> taskIds, boolean projectRemains);
+}
@@ -1,7 +1,11 @@
 package com.taskmaster.service;
 
 import com.taskmaster.dto.PagedResponse;
+import com.taskmaster.dto.task.BoardColumnResponse;
+import com.taskmaster.dto.task.BoardResponse;
+import com.taskmaster.dto.task.SubtreeStatsResponse;
 import com.taskmaster.dto.task.TaskCreateRequest;
+import com.taskmaster.dto.task.TaskPositionRequest;
 import com.taskmaster.dto.task.TaskResponse;
 import com.taskmaster.dto.task.TaskUpdateRequest; // Create this DTO
 import com.taskmaster.model.common.TaskStatus;
@@ -10,7 +14,19 @@ import org.springframework.data.domain.Pageable;
 
 public interface TaskService {
 
-    PagedResponse<TaskResponse> getTasksByProjectId(Long projectId, Long currentUserId, String statusFilter, String searchTerm, Pageable pageable);
+    // subtreeOf, when given, limits the page to that task and its descendants
+    PagedResponse<TaskResponse> getTasksByProjectId(Long projectId, Long currentUserId, String statusFilter, String searchTerm, Long subtreeOf, Pageable pageable);
+
+    // Task counts per status over a task and all its descendants
+    SubtreeStatsResponse getSubtreeStats(Long projectId, Long taskId, Long currentUserId);
+
+    /**
+     * Returns the first cards of every status column, with per-column totals and cursors, in one query.
+     */
+    BoardResponse getBoard(Long projectId, Long currentUserId, int perColumn);
+
+    // Loads more cards of one board column, after the cursor returned with the previous batch
+    BoardColumnResponse getBoardColumn(Long projectId, TaskStatus status, Long currentUserId, String cursor, int size);
 
     PagedResponse<TaskResponse> getTasksAssignedToUser(Long userId, Pageable pageable);
 
@@ -23,12 +39,31 @@ public interface TaskService {
     // Method to update only the status (e.g., mark as completed)
     TaskResponse updateTaskStatus(Long projectId, Long taskId, TaskStatus newStatus, Long currentUserId);
 
+    /**
+     * Moves a task between two neighbours on the board (possibly into another status column),
+     * rewriting only the moved task's rank.
+     */
+    TaskResponse moveTask(Long projectId, Long taskId, TaskPositionRequest positionRequest, Long currentUserId);
+
+    /**
+     * Moves a task, with its whole subtree, under another task of the project (or to the top level when
+     * parentId is null). Moving a task under one of its own descendants is rejected.
+     */
+    TaskResponse moveTaskToParent(Long projectId, Long taskId, Long parentId, Long currentUserId);
+
     // Method to assign/reassign a task
     TaskResponse assignTask(Long projectId, Long taskId, Long assigneeId, Long currentUserId);
 
+    // Deletes the task together with all its subtasks
     void deleteTask(Long projectId, Long taskId, Long currentUserId);
 
     // --- Helper or Internal Methods (Could be private in Impl) ---
     void verifyUserMembership(Long projectId, Long userId); // Throws exception if not member
 
+    // Rewrites the ranks of one board column with evenly spaced short keys; returns the number of tasks rewritten
+    int rebalanceBoardColumn(Long projectId, TaskStatus status);
+
+    // Recomputes comment/attachment counters for a task id range; returns the number of repaired tasks
+    int repairTaskCounters(long fromId, long toId);
+
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.taskmaster.service;
+
+import org.springframework.core.io.Resource;
+
+public interface ThumbnailService {
+
+    boolean supports(String contentType);
+
+    // Queues thumbnail generation on the bounded worker pool; silently skipped when the pool is saturated
+    void generateThumbnailAsync(String filePath);
+
+    // Returns the stored thumbnail, waiting for it on the worker pool if it does not exist yet (503 when saturated)
+    Resource getThumbnail(String filePath);
+
+    String getThumbnailPath(String filePath);
+}
@@ -0,0 +1,129 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.dto.analytics.CycleTimeResponse;
+import com.taskmaster.dto.analytics.DurationPercentilesResponse;
+import com.taskmaster.dto.analytics.FlowDayResponse;
+import com.taskmaster.dto.analytics.FlowResponse;
+import com.taskmaster.exception.BadRequestException;
+import com.taskmaster.model.ProjectDailyStatusCount;
+import com.taskmaster.model.common.TaskStatus;
+import com.taskmaster.repository.ProjectDailyStatusCountRepository;
+import com.taskmaster.repository.TaskStatusHistoryRepository;
+import com.taskmaster.repository.projection.CycleTimeView;
+import com.taskmaster.service.AnalyticsService;
+import com.taskmaster.service.TaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final int DEFAULT_WINDOW_DAYS = 90;
+    private static final int DEFAULT_FLOW_DAYS = 30;
+    private static final int MAX_FLOW_DAYS = 731; // Two years
+
+    @Autowired private TaskStatusHistoryRepository taskStatusHistoryRepository;
+    @Autowired private ProjectDailyStatusCountRepository projectDailyStatusCountRepository;
+    @Autowired private TaskService taskService;
+
+    @Override
+    @Transactional(readOnly = true)
+    public CycleTimeResponse getCycleTime(Long projectId, LocalDate from, LocalDate to, Long currentUserId) {
+        taskService.verifyUserMembership(projectId, currentUserId);
+        LocalDate lastDay = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate firstDay = from != null ? from : lastDay.minusDays(DEFAULT_WINDOW_DAYS - 1);
+        if (firstDay.isAfter(lastDay)) {
+            throw new BadRequestException("'from' must not be after 'to'.");
+        }
+
+        CycleTimeView stats = taskStatusHistoryRepository.computeCycleTimes(projectId, startOfDay(firstDay),
+                startOfDay(lastDay.plusDays(1)), TaskStatus.IN_PROGRESS.ordinal(), TaskStatus.COMPLETED.ordinal());
+
+        CycleTimeResponse dto = new CycleTimeResponse();
+        dto.setProjectId(projectId);
+        dto.setFrom(firstDay);
+        dto.setTo(lastDay);
+        dto.setCompletedTasks(stats.getCompletedTasks());
+        dto.setCycleTimeHours(new DurationPercentilesResponse(
+                stats.getCycleP50(), stats.getCycleP75(), stats.getCycleP85(), stats.getCycleP95()));
+        dto.setLeadTimeHours(new DurationPercentilesResponse(
+                stats.getLeadP50(), stats.getLeadP75(), stats.getLeadP85(), stats.getLeadP95()));
+        return dto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FlowResponse getFlow(Long projectId, LocalDate from, LocalDate to, Long currentUserId) {
+        taskService.verifyUserMembership(projectId, currentUserId);
+        LocalDate lastDay = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate firstDay = from != null ? from : lastDay.minusDays(DEFAULT_FLOW_DAYS - 1);
+        if (firstDay.isAfter(lastDay)) {
+            throw new BadRequestException("'from' must not be after 'to'.");
+        }
+        if (ChronoUnit.DAYS.between(firstDay, lastDay) >= MAX_FLOW_DAYS) {
+            throw new BadRequestException("The range cannot exceed " + MAX_FLOW_DAYS + " days.");
+        }
+
+        // Rows sorted by day; the carried-in rows (before firstDay) come first
+        List<ProjectDailyStatusCount> rows = new ArrayList<>(
+                projectDailyStatusCountRepository.findRangeWithCarryIn(projectId, firstDay, lastDay));
+        rows.sort((a, b) -> a.getDay().compareTo(b.getDay()));
+
+        Map<TaskStatus, Long> current = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            current.put(status, 0L);
+        }
+        List<FlowDayResponse> days = new ArrayList<>();
+        int next = 0;
+        for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            while (next < rows.size() && !rows.get(next).getDay().isAfter(day)) {
+                current.put(rows.get(next).getStatus(), rows.get(next).getTaskCount());
+                next++;
+            }
+            days.add(mapToFlowDay(day, current));
+        }
+
+        FlowResponse dto = new FlowResponse();
+        dto.setProjectId(projectId);
+        dto.setFrom(firstDay);
+        dto.setTo(lastDay);
+        dto.setDays(days);
+        return dto;
+    }
+
+    @Override
+    @Transactional
+    public int snapshotProjects(LocalDate day, Collection<Long> projectIds) {
+        return projectIds.isEmpty() ? 0 : projectDailyStatusCountRepository.snapshotProjects(day, projectIds);
+    }
+
+    @Override
+    @Transactional
+    public int snapshotChangedProjects(LocalDate day, long fromId, long toId) {
+        return projectDailyStatusCountRepository.snapshotChangedProjects(day, fromId, toId);
+    }
+
+    private FlowDayResponse mapToFlowDay(LocalDate day, Map<TaskStatus, Long> counts) {
+        FlowDayResponse dto = new FlowDayResponse();
+        dto.setDay(day);
+        dto.setTaskCountsByStatus(new EnumMap<>(counts));
+        dto.setTotalTasks(counts.values().stream().mapToLong(Long::longValue).sum());
+        dto.setRemainingTasks(dto.getTotalTasks() - counts.get(TaskStatus.COMPLETED) - counts.get(TaskStatus.ARCHIVED));
+        return dto;
+    }
+
+    private static Instant startOfDay(LocalDate day) {
+        return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
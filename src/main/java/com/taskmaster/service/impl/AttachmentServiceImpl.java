@@ -2,6 +2,7 @@ package com.taskmaster.service.impl;
 
 import com.taskmaster.dto.attachment.AttachmentResponse;
 import com.taskmaster.dto.user.UserSummaryResponse;
+import com.taskmaster.exception.BadRequestException;
 import com.taskmaster.exception.ResourceNotFoundException;
 import com.taskmaster.model.Attachment;
 import com.taskmaster.model.Task;
@@ -9,9 +10,12 @@ import com.taskmaster.model.User;
 import com.taskmaster.repository.AttachmentRepository;
 import com.taskmaster.repository.TaskRepository;
 import com.taskmaster.repository.UserRepository;
+import com.taskmaster.repository.projection.AttachmentAccessView;
 import com.taskmaster.service.AttachmentService;
 import com.taskmaster.service.FileStorageService;
+import com.taskmaster.service.StorageQuotaService;
 import com.taskmaster.service.TaskService; // For project membership check
+import com.taskmaster.service.ThumbnailService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,6 +23,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -35,37 +40,73 @@ public class AttachmentServiceImpl implements AttachmentService {
     @Autowired private TaskRepository taskRepository;
     @Autowired private UserRepository userRepository;
     @Autowired private TaskService taskService; // For project membership check
+    @Autowired private StorageQuotaService storageQuotaService;
+    @Autowired private ThumbnailService thumbnailService;
+    @Autowired private TransactionTemplate transactionTemplate;
 
+    // Not one transaction: the quota reservation commits on its own before the file is written, so the project and
+    // user rows are not locked for the duration of the upload; a failed store or save releases it again
     @Override
-    @Transactional
     public AttachmentResponse attachFileToTask(Long taskId, MultipartFile file, Long uploaderUserId) {
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
         User uploader = userRepository.findById(uploaderUserId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", uploaderUserId));
+        Long projectId = task.getProject().getId();
 
         // Authorization: Check if uploader is member of the task's project
-        taskService.verifyUserMembership(task.getProject().getId(), uploaderUserId);
-
-        // Store file
-        String subDir = "project_" + task.getProject().getId() + "/task_" + taskId; // Example subdirectory structure
-        String filePath = fileStorageService.storeFile(file, subDir);
-
-        // Create entity
-        Attachment attachment = Attachment.builder()
-                .fileName(StringUtils.cleanPath(file.getOriginalFilename()))
-                .fileType(file.getContentType())
-                .fileSize(file.getSize())
-                .filePath(filePath)
-                .task(task)
-                .uploader(uploader)
-                .build();
-
-        Attachment savedAttachment = attachmentRepository.save(attachment);
+        taskService.verifyUserMembership(projectId, uploaderUserId);
+
+        // Reserve quota before any bytes hit storage
+        storageQuotaService.reserve(projectId, uploaderUserId, file.getSize());
+
+        String filePath = null;
+        Attachment savedAttachment;
+        try {
+            // Store file
+            String subDir = "project_" + projectId + "/task_" + taskId; // Example subdirectory structure
+            filePath = fileStorageService.storeFile(file, subDir);
+
+            // Create entity
+            Attachment attachment = Attachment.builder()
+                    .fileName(StringUtils.cleanPath(file.getOriginalFilename()))
+                    .fileType(file.getContentType())
+                    .fileSize(file.getSize())
+                    .filePath(filePath)
+                    .task(task)
+                    .uploader(uploader)
+                    .build();
+
+            savedAttachment = transactionTemplate.execute(status -> {
+                Attachment saved = attachmentRepository.save(attachment);
+                taskRepository.adjustAttachmentCount(taskId, 1);
+                return saved;
+            });
+        } catch (RuntimeException ex) {
+            releaseFailedUpload(projectId, uploaderUserId, file.getSize(), filePath);
+            throw ex;
+        }
         logger.info("User {} uploaded attachment {} for task {}", uploaderUserId, savedAttachment.getId(), taskId);
+
+        // Pre-generate the preview now that the attachment is committed; on-demand generation covers anything skipped
+        if (thumbnailService.supports(savedAttachment.getFileType())) {
+            thumbnailService.generateThumbnailAsync(filePath);
+        }
         return mapToAttachmentResponse(savedAttachment);
     }
 
+    // Compensates a reservation whose upload did not complete; the nightly reconciliation repairs a failed release
+    private void releaseFailedUpload(Long projectId, Long userId, long bytes, String filePath) {
+        try {
+            storageQuotaService.release(projectId, userId, bytes);
+            if (filePath != null) {
+                fileStorageService.deleteFile(filePath);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("Could not release the failed upload of {} bytes to project {}: {}", bytes, projectId, ex.getMessage());
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<AttachmentResponse> getAttachmentsByTaskId(Long taskId, Long currentUserId) {
@@ -83,15 +124,29 @@ public class AttachmentServiceImpl implements AttachmentService {
 
     @Override
     public Resource downloadAttachmentFile(Long attachmentId, Long currentUserId) {
-        Attachment attachment = attachmentRepository.findById(attachmentId)
+        AttachmentAccessView attachment = attachmentRepository.findAccessViewById(attachmentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
 
         // Authorization: Check if user is member of the task's project
-        taskService.verifyUserMembership(attachment.getTask().getProject().getId(), currentUserId);
+        taskService.verifyUserMembership(attachment.getProjectId(), currentUserId);
 
         return fileStorageService.loadFileAsResource(attachment.getFilePath());
     }
 
+    @Override
+    public Resource getAttachmentThumbnail(Long attachmentId, Long currentUserId) {
+        AttachmentAccessView attachment = attachmentRepository.findAccessViewById(attachmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Attachment", "id", attachmentId));
+
+        // Authorization: Check if user is member of the task's project
+        taskService.verifyUserMembership(attachment.getProjectId(), currentUserId);
+
+        if (!thumbnailService.supports(attachment.getFileType())) {
+            throw new BadRequestException("Thumbnails are only available for image attachments.");
+        }
+        return thumbnailService.getThumbnail(attachment.getFilePath());
+    }
+
 
     @Override
     @Transactional
@@ -112,6 +167,10 @@ public class AttachmentServiceImpl implements AttachmentService {
         // 1. Delete file from storage *before* deleting DB record
         try {
             fileStorageService.deleteFile(attachment.getFilePath());
+            String thumbnailPath = thumbnailService.getThumbnailPath(attachment.getFilePath());
+            if (fileStorageService.fileExists(thumbnailPath)) {
+                fileStorageService.deleteFile(thumbnailPath);
+            }
         } catch (Exception e) {
             // Log the error but proceed to delete DB record maybe? Or rethrow?
             logger.error("Failed to delete attachment file {} from storage for attachment ID {}. DB record will still be deleted.",
@@ -123,6 +182,11 @@ public class AttachmentServiceImpl implements AttachmentService {
 
         // 2. Delete entity from database
         attachmentRepository.delete(attachment);
+        taskRepository.adjustAttachmentCount(attachment.getTask().getId(), -1);
+        if (attachment.getFileSize() != null) {
+            storageQuotaService.release(attachment.getTask().getProject().getId(),
+                    attachment.getUploader().getId(), attachment.getFileSize());
+        }
         logger.info("User {} deleted attachment {}", currentUserId, attachmentId);
     }
 
@@ -1,13 +1,22 @@
 package com.taskmaster.service.impl; // Updated package
 
+import com.taskmaster.dto.auth.LoginRequest;
 import com.taskmaster.dto.auth.RegisterRequest;
 import com.taskmaster.exception.BadRequestException;
 import com.taskmaster.model.User;
 import com.taskmaster.repository.UserRepository;
+import com.taskmaster.security.LoginAttemptGuard;
+import com.taskmaster.security.UserPrincipal;
 import com.taskmaster.security.jwt.JwtTokenProvider;
 import com.taskmaster.service.AuthService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,23 +26,63 @@ import org.springframework.stereotype.Service;
 @Service
 public class AuthServiceImpl implements AuthService {
 
-    @Autowired private AuthenticationManager authenticationManager;
+    private static final Logger logger = LoggerFactory.getLogger(AuthServiceImpl.class);
+
     @Autowired private UserRepository userRepository;
     @Autowired private PasswordEncoder passwordEncoder;
     @Autowired private JwtTokenProvider tokenProvider;
+    @Autowired private LoginAttemptGuard loginAttemptGuard;
+
+    @Autowired private MeterRegistry meterRegistry;
+
+    private final AccountStatusUserDetailsChecker accountStatusChecker = new AccountStatusUserDetailsChecker();
+    private Counter rehashedPasswords;
+
+    @PostConstruct
+    public void init() {
+        rehashedPasswords = Counter.builder("taskmaster.password.rehashed")
+                .description("Stored password hashes upgraded to the target scheme and cost on login")
+                .register(meterRegistry);
+    }
 
     @Override
-    public String authenticateUser(LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getUsernameOrEmail(),
-                        loginRequest.getPassword()
-                )
-        );
+    public String authenticateUser(LoginRequest loginRequest, String clientAddress) {
+        String usernameOrEmail = loginRequest.getUsernameOrEmail();
+        loginAttemptGuard.checkAllowed(usernameOrEmail, clientAddress);
+
+        User user = userRepository.findByUsernameOrEmail(usernameOrEmail, usernameOrEmail).orElse(null);
+        if (user == null) {
+            loginAttemptGuard.awaitPasswordCheckTime();
+            loginAttemptGuard.recordFailure(usernameOrEmail, clientAddress);
+            throw new BadCredentialsException("Bad credentials");
+        }
+        if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+            loginAttemptGuard.recordFailure(usernameOrEmail, clientAddress);
+            throw new BadCredentialsException("Bad credentials");
+        }
+
+        UserPrincipal userPrincipal = UserPrincipal.create(user);
+        accountStatusChecker.check(userPrincipal);
+        loginAttemptGuard.recordSuccess(usernameOrEmail);
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            rehashPassword(user, loginRequest.getPassword());
+        }
+        Authentication authentication = new UsernamePasswordAuthenticationToken(
+                userPrincipal, null, userPrincipal.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
         return tokenProvider.generateToken(authentication);
     }
 
+    // The raw password is only available here; a failed rehash keeps the old hash and is retried on the next login
+    private void rehashPassword(User user, String rawPassword) {
+        try {
+            userRepository.updatePassword(user.getId(), passwordEncoder.encode(rawPassword));
+            rehashedPasswords.increment();
+        } catch (RuntimeException ex) {
+            logger.warn("Could not rehash the password of user {}: {}", user.getId(), ex.getMessage());
+        }
+    }
+
     @Override
     public void registerUser(RegisterRequest registerRequest) {
         if (userRepository.existsByUsername(registerRequest.getUsername())) {
@@ -1,9 +1,11 @@
 package com.taskmaster.service.impl;
 
+import com.taskmaster.dto.CursorPagedResponse;
 import com.taskmaster.dto.PagedResponse;
 import com.taskmaster.dto.comment.CommentCreateRequest;
 import com.taskmaster.dto.comment.CommentResponse;
 import com.taskmaster.dto.user.UserSummaryResponse;
+import com.taskmaster.exception.BadRequestException;
 import com.taskmaster.exception.ResourceNotFoundException;
 import com.taskmaster.model.Comment;
 import com.taskmaster.model.Task;
@@ -13,17 +15,20 @@ import com.taskmaster.repository.TaskRepository;
 import com.taskmaster.repository.UserRepository;
 import com.taskmaster.service.CommentService;
 import com.taskmaster.service.TaskService; // For checking project membership easily
+import com.taskmaster.util.CursorCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class CommentServiceImpl implements CommentService {
@@ -53,6 +58,7 @@ public class CommentServiceImpl implements CommentService {
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
+        taskRepository.adjustCommentCount(taskId, 1);
         logger.info("User {} added comment {} to task {}", authorUserId, savedComment.getId(), taskId);
         return mapToCommentResponse(savedComment);
     }
@@ -60,20 +66,12 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<CommentResponse> getCommentsByTaskId(Long taskId, Long currentUserId, Pageable pageable) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
-
-        // Authorization: Check if user is member of the task's project
-        taskService.verifyUserMembership(task.getProject().getId(), currentUserId);
+        verifyTaskAccess(taskId, currentUserId);
 
-        Page<Comment> commentsPage = commentRepository.findByTaskId(taskId, pageable);
-
-        List<CommentResponse> commentResponses = commentsPage.getContent().stream()
-                .map(this::mapToCommentResponse)
-                .collect(Collectors.toList());
+        Page<CommentResponse> commentsPage = commentRepository.findResponsesByTaskId(taskId, pageable);
 
         return new PagedResponse<>(
-                commentResponses,
+                commentsPage.getContent(),
                 commentsPage.getNumber(),
                 commentsPage.getSize(),
                 commentsPage.getTotalElements(),
@@ -82,6 +80,38 @@ public class CommentServiceImpl implements CommentService {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<CommentResponse> scrollCommentsByTaskId(Long taskId, Long currentUserId, String cursor, int size) {
+        verifyTaskAccess(taskId, currentUserId);
+
+        // Fetch one extra row to know whether another page exists, without a count query
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<CommentResponse> comments;
+        if (cursor == null || cursor.isBlank()) {
+            comments = commentRepository.findFirstResponsesByTaskId(taskId, limit);
+        } else {
+            String[] position = CursorCodec.decode(cursor, 2);
+            try {
+                comments = commentRepository.findResponsesByTaskIdAfter(
+                        taskId, Instant.parse(position[0]), Long.parseLong(position[1]), limit);
+            } catch (DateTimeParseException | NumberFormatException ex) {
+                throw new BadRequestException("Invalid cursor.", ex);
+            }
+        }
+
+        boolean last = comments.size() <= size;
+        if (!last) {
+            comments = comments.subList(0, size);
+        }
+        String nextCursor = null;
+        if (!last) {
+            CommentResponse lastComment = comments.get(comments.size() - 1);
+            nextCursor = CursorCodec.encode(lastComment.getCreatedAt(), lastComment.getId());
+        }
+        return new CursorPagedResponse<>(comments, size, nextCursor, last);
+    }
+
     @Override
     @Transactional
     public void deleteComment(Long commentId, Long currentUserId) {
@@ -98,9 +128,18 @@ public class CommentServiceImpl implements CommentService {
         }
 
         commentRepository.delete(comment);
+        taskRepository.adjustCommentCount(comment.getTask().getId(), -1);
         logger.info("User {} deleted comment {}", currentUserId, commentId);
     }
 
+    // --- Authorization Helpers ---
+    // Resolves the project by projection instead of loading the task entity
+    private void verifyTaskAccess(Long taskId, Long currentUserId) {
+        Long projectId = taskRepository.findProjectIdById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+        taskService.verifyUserMembership(projectId, currentUserId);
+    }
+
     // --- Mapping ---
     private CommentResponse mapToCommentResponse(Comment comment) {
         CommentResponse dto = new CommentResponse();
@@ -1,11 +1,15 @@
 package com.taskmaster.service.impl;
 
+import com.taskmaster.diagnostics.jfr.FileStorageEvent;
 import com.taskmaster.exception.BadRequestException;
 import com.taskmaster.exception.ResourceNotFoundException; // Or a specific FileStorageException
 import com.taskmaster.service.FileStorageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
@@ -26,10 +30,17 @@ public class FileStorageServiceImpl implements FileStorageService {
     @Value("${file.upload-dir}")
     private String uploadDir;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private Path fileStorageLocation;
+    private Counter bytesWritten;
+    private Counter bytesRead;
 
     @PostConstruct // Called after dependency injection is done
     public void init() {
+        bytesWritten = meterRegistry.counter("taskmaster.storage.bytes", "direction", "in");
+        bytesRead = meterRegistry.counter("taskmaster.storage.bytes", "direction", "out");
         try {
             fileStorageLocation = Paths.get(this.uploadDir).toAbsolutePath().normalize();
             Files.createDirectories(this.fileStorageLocation);
@@ -49,6 +60,8 @@ public class FileStorageServiceImpl implements FileStorageService {
         // Normalize file name
         String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
 
+        FileStorageEvent event = new FileStorageEvent();
+        event.begin();
         try {
             // Check for invalid characters
             if (originalFileName.contains("..")) {
@@ -73,11 +86,14 @@ public class FileStorageServiceImpl implements FileStorageService {
             Path targetLocation = targetDir.resolve(uniqueFileName);
 
             // Copy file to the target location (Replacing existing file with the same name if any)
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            long bytes = Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            bytesWritten.increment(bytes);
             logger.info("Stored file '{}' to '{}'", originalFileName, targetLocation);
 
             // Return the relative path to be stored in the database
-            return Paths.get(subDirectory, uniqueFileName).toString().replace("\\", "/"); // Ensure consistent path separators
+            String storedPath = Paths.get(subDirectory, uniqueFileName).toString().replace("\\", "/"); // Ensure consistent path separators
+            commit(event, "store", storedPath, bytes);
+            return storedPath;
 
         } catch (IOException ex) {
             logger.error("Could not store file {} under subdirectory {}. Please try again!", originalFileName, subDirectory, ex);
@@ -87,6 +103,8 @@ public class FileStorageServiceImpl implements FileStorageService {
 
     @Override
     public Resource loadFileAsResource(String filePath) {
+        FileStorageEvent event = new FileStorageEvent();
+        event.begin();
         try {
             Path resolvedFilePath = this.fileStorageLocation.resolve(filePath).normalize();
             if (!resolvedFilePath.startsWith(this.fileStorageLocation)) {
@@ -95,6 +113,9 @@ public class FileStorageServiceImpl implements FileStorageService {
 
             Resource resource = new UrlResource(resolvedFilePath.toUri());
             if (resource.exists() && resource.isReadable()) {
+                long bytes = resolvedFilePath.toFile().length();
+                bytesRead.increment(bytes); // Counted when handed out for streaming
+                commit(event, "load", filePath, bytes);
                 return resource;
             } else {
                 logger.warn("File not found or not readable: {}", filePath);
@@ -108,6 +129,8 @@ public class FileStorageServiceImpl implements FileStorageService {
 
     @Override
     public void deleteFile(String filePath) {
+        FileStorageEvent event = new FileStorageEvent();
+        event.begin();
         try {
             Path resolvedFilePath = this.fileStorageLocation.resolve(filePath).normalize();
             if (!resolvedFilePath.startsWith(this.fileStorageLocation)) {
@@ -116,8 +139,10 @@ public class FileStorageServiceImpl implements FileStorageService {
             }
 
             if (Files.exists(resolvedFilePath)) {
+                long bytes = Files.size(resolvedFilePath);
                 Files.delete(resolvedFilePath);
                 logger.info("Deleted file: {}", filePath);
+                commit(event, "delete", filePath, bytes);
             } else {
                 logger.warn("Attempted to delete non-existent file: {}", filePath);
             }
@@ -130,8 +155,57 @@ public class FileStorageServiceImpl implements FileStorageService {
         }
     }
 
+    @Override
+    public boolean fileExists(String filePath) {
+        Path resolvedFilePath = this.fileStorageLocation.resolve(filePath).normalize();
+        return resolvedFilePath.startsWith(this.fileStorageLocation) && Files.isReadable(resolvedFilePath);
+    }
+
+    @Override
+    public String getDerivativePath(String filePath, String variant) {
+        // Derivatives are always PNG: "<dir>/<uuid>.jpg" -> "<dir>/<uuid>_thumb.png"
+        int dotIndex = filePath.lastIndexOf('.');
+        int slashIndex = filePath.lastIndexOf('/');
+        String base = dotIndex > slashIndex ? filePath.substring(0, dotIndex) : filePath;
+        return base + "_" + variant + ".png";
+    }
+
+    @Override
+    public String storeDerivative(String filePath, String variant, byte[] content) {
+        String derivativePath = getDerivativePath(filePath, variant);
+        Path targetLocation = this.fileStorageLocation.resolve(derivativePath).normalize();
+        if (!targetLocation.startsWith(this.fileStorageLocation)) {
+            throw new BadRequestException("Cannot store file outside configured directory.");
+        }
+        FileStorageEvent event = new FileStorageEvent();
+        event.begin();
+        try {
+            // Write to a temp file first so concurrent readers never see a partially written derivative
+            Path tempFile = Files.createTempFile(targetLocation.getParent(), "derivative-", ".tmp");
+            Files.write(tempFile, content);
+            bytesWritten.increment(content.length);
+            Files.move(tempFile, targetLocation, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Stored {} derivative of '{}' to '{}'", variant, filePath, targetLocation);
+            commit(event, "store-derivative", derivativePath, content.length);
+            return derivativePath;
+        } catch (IOException ex) {
+            logger.error("Could not store {} derivative of file {}", variant, filePath, ex);
+            throw new RuntimeException("Could not store derivative of file " + filePath, ex);
+        }
+    }
+
     @Override
     public Path getBasePath() {
         return fileStorageLocation;
     }
+
+    private static void commit(FileStorageEvent event, String operation, String path, long bytes) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.path = path;
+            event.bytes = bytes;
+            event.commit();
+        }
+    }
 }
\ No newline at end of file
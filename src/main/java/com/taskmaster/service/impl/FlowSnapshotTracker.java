@@ -0,0 +1,46 @@
+package com.taskmaster.service.impl;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Projects whose status rollups changed since the last intra-day snapshot refresh (ProjectFlowSnapshotJob).
+ * Kept in memory only: changes lost on a restart are picked up by the end-of-day snapshot.
+ */
+@Component
+public class FlowSnapshotTracker {
+
+    private final Set<Long> changedProjectIds = ConcurrentHashMap.newKeySet();
+
+    // Marks the project once the surrounding transaction commits, so a refresh never reads uncommitted rollups
+    public void markChangedAfterCommit(Long projectId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            changedProjectIds.add(projectId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                changedProjectIds.add(projectId);
+            }
+        });
+    }
+
+    // Returns and clears the marked projects
+    public List<Long> drainChangedProjects() {
+        List<Long> drained = new ArrayList<>();
+        Iterator<Long> iterator = changedProjectIds.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+}
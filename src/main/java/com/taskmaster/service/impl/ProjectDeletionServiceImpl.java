@@ -0,0 +1,161 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.dto.project.ProjectDeletionResponse;
+import com.taskmaster.exception.ResourceNotFoundException;
+import com.taskmaster.model.ProjectDeletion;
+import com.taskmaster.model.common.ProjectDeletionStatus;
+import com.taskmaster.repository.ProjectDailyStatusCountRepository;
+import com.taskmaster.repository.ProjectDeletionRepository;
+import com.taskmaster.repository.ProjectRepository;
+import com.taskmaster.repository.ProjectStatusCountRepository;
+import com.taskmaster.repository.TaskRepository;
+import com.taskmaster.service.ProjectDeletionRequestedEvent;
+import com.taskmaster.service.ProjectDeletionService;
+import com.taskmaster.service.TaskPurgeResult;
+import com.taskmaster.service.TaskPurgeService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+
+@Service
+public class ProjectDeletionServiceImpl implements ProjectDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectDeletionServiceImpl.class);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    @Autowired private ProjectDeletionRepository projectDeletionRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private ProjectStatusCountRepository projectStatusCountRepository;
+    @Autowired private ProjectDailyStatusCountRepository projectDailyStatusCountRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private TaskPurgeService taskPurgeService;
+    @Autowired private TaskDependencyGraphCache graphCache;
+    @Autowired private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public ProjectDeletionResponse requestDeletion(Long projectId, Long requestedByUserId) {
+        if (projectRepository.markDeleting(projectId) == 0) {
+            // Already being deleted: report progress, and retry if the last attempt failed
+            ProjectDeletion existing = projectDeletionRepository.findById(projectId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+            if (existing.getStatus() == ProjectDeletionStatus.FAILED) {
+                existing.setStatus(ProjectDeletionStatus.PENDING);
+                existing.setLastError(null);
+            }
+            if (existing.getStatus() != ProjectDeletionStatus.COMPLETED) {
+                eventPublisher.publishEvent(new ProjectDeletionRequestedEvent(projectId));
+            }
+            return mapToResponse(existing);
+        }
+
+        ProjectDeletion deletion = projectDeletionRepository.findById(projectId).orElseGet(ProjectDeletion::new);
+        deletion.setProjectId(projectId);
+        deletion.setRequestedById(requestedByUserId);
+        deletion.setStatus(ProjectDeletionStatus.PENDING);
+        deletion.setTotalTasks(taskRepository.countByProjectId(projectId));
+        deletion.setRequestedAt(Instant.now());
+        ProjectDeletion saved = projectDeletionRepository.save(deletion);
+
+        eventPublisher.publishEvent(new ProjectDeletionRequestedEvent(projectId));
+        logger.info("User {} requested deletion of project {} ({} tasks)", requestedByUserId, projectId, saved.getTotalTasks());
+        return mapToResponse(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectDeletionResponse getDeletion(Long projectId, Long currentUserId) {
+        ProjectDeletion deletion = projectDeletionRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project deletion", "projectId", projectId));
+        if (!deletion.getRequestedById().equals(currentUserId)) {
+            throw new AccessDeniedException("Only the user who requested the deletion can view its progress.");
+        }
+        return mapToResponse(deletion);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findUnfinishedDeletions() {
+        return projectDeletionRepository.findProjectIdsByStatusIn(
+                EnumSet.of(ProjectDeletionStatus.PENDING, ProjectDeletionStatus.RUNNING));
+    }
+
+    @Override
+    @Transactional
+    public void markRunning(Long projectId) {
+        projectDeletionRepository.findById(projectId).ifPresent(deletion -> {
+            deletion.setStatus(ProjectDeletionStatus.RUNNING);
+            deletion.setLastError(null);
+        });
+    }
+
+    @Override
+    @Transactional
+    public int purgeNextChunk(Long projectId, int chunkSize) {
+        List<Long> taskIds = taskRepository.findIdsByProjectId(projectId, PageRequest.of(0, chunkSize));
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+
+        // The project's own counters and rollups go away with the project row; uploaders get their quota back now
+        TaskPurgeResult result = taskPurgeService.purgeTasks(projectId, taskIds, false);
+        projectDeletionRepository.recordProgress(projectId, result.deletedTasks(), result.deletedComments(),
+                result.deletedAttachments(), result.reclaimedBytes());
+        logger.debug("Purged {} tasks, {} comments and {} attachments of project {}",
+                result.deletedTasks(), result.deletedComments(), result.deletedAttachments(), projectId);
+        return result.deletedTasks();
+    }
+
+    @Override
+    @Transactional
+    public boolean completeDeletion(Long projectId) {
+        if (taskRepository.countByProjectId(projectId) > 0) {
+            return false;
+        }
+        projectRepository.deleteMemberships(projectId);
+        projectStatusCountRepository.deleteAllByProjectId(projectId);
+        projectDailyStatusCountRepository.deleteAllByProjectId(projectId);
+        projectRepository.deleteProjectRow(projectId);
+        graphCache.remove(projectId);
+        projectDeletionRepository.findById(projectId).ifPresent(deletion -> {
+            deletion.setStatus(ProjectDeletionStatus.COMPLETED);
+            deletion.setCompletedAt(Instant.now());
+        });
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public void markFailed(Long projectId, String error) {
+        projectDeletionRepository.findById(projectId).ifPresent(deletion -> {
+            deletion.setStatus(ProjectDeletionStatus.FAILED);
+            deletion.setLastError(error != null && error.length() > MAX_ERROR_LENGTH
+                    ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        });
+    }
+
+    // --- Mapping ---
+    private ProjectDeletionResponse mapToResponse(ProjectDeletion deletion) {
+        ProjectDeletionResponse dto = new ProjectDeletionResponse();
+        dto.setProjectId(deletion.getProjectId());
+        dto.setStatus(deletion.getStatus());
+        dto.setTotalTasks(deletion.getTotalTasks());
+        dto.setDeletedTasks(deletion.getDeletedTasks());
+        dto.setDeletedComments(deletion.getDeletedComments());
+        dto.setDeletedAttachments(deletion.getDeletedAttachments());
+        dto.setReclaimedBytes(deletion.getReclaimedBytes());
+        dto.setLastError(deletion.getLastError());
+        dto.setRequestedAt(deletion.getRequestedAt());
+        dto.setCompletedAt(deletion.getCompletedAt());
+        return dto;
+    }
+}
@@ -1,16 +1,28 @@
 package com.taskmaster.service.impl;
 
+import com.taskmaster.dto.CursorPagedResponse;
 import com.taskmaster.dto.PagedResponse;
+import com.taskmaster.dto.project.BulkMembersResponse;
 import com.taskmaster.dto.project.ProjectCreateRequest;
+import com.taskmaster.dto.project.ProjectDeletionResponse;
 import com.taskmaster.dto.project.ProjectResponse;
+import com.taskmaster.dto.project.ProjectStatsResponse;
+import com.taskmaster.dto.project.ProjectStatusCountsResponse;
 import com.taskmaster.dto.user.UserSummaryResponse;
 import com.taskmaster.exception.BadRequestException;
 import com.taskmaster.exception.ResourceNotFoundException;
 import com.taskmaster.model.Project;
 import com.taskmaster.model.User;
+import com.taskmaster.model.common.ProjectStatus;
+import com.taskmaster.model.common.TaskStatus;
 import com.taskmaster.repository.ProjectRepository;
 import com.taskmaster.repository.UserRepository;
+import com.taskmaster.repository.projection.ProjectTaskStatsView;
+import com.taskmaster.service.ProjectDeletionService;
 import com.taskmaster.service.ProjectService;
+import com.taskmaster.service.ProjectStatsService;
+import com.taskmaster.service.TaskService;
+import com.taskmaster.util.CursorCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,7 +32,13 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,7 +48,9 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Autowired private ProjectRepository projectRepository;
     @Autowired private UserRepository userRepository;
-    // Inject TaskService if needed for cascading deletes or counts
+    @Autowired private ProjectDeletionService projectDeletionService;
+    @Autowired private ProjectStatsService projectStatsService;
+    @Autowired private TaskService taskService;
 
     @Override
     @Transactional
@@ -44,10 +64,9 @@ public class ProjectServiceImpl implements ProjectService {
                 .owner(owner)
                 .build();
 
-        // Automatically add the owner as a member
-        project.addMember(owner);
-
         Project savedProject = projectRepository.save(project);
+        // Automatically add the owner as a member, without loading the owner's other projects
+        projectRepository.addMembers(savedProject.getId(), List.of(ownerUserId));
         logger.info("User {} created project {}", ownerUserId, savedProject.getId());
         return mapToProjectResponse(savedProject);
     }
@@ -55,7 +74,7 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     @Transactional(readOnly = true)
     public ProjectResponse getProjectById(Long projectId, Long currentUserId) {
-        verifyUserMembership(projectId, currentUserId); // Authorization check
+        taskService.verifyUserMembership(projectId, currentUserId); // Authorization check
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
         return mapToProjectResponse(project);
@@ -63,15 +82,25 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional(readOnly = true)
-    public PagedResponse<ProjectResponse> getProjectsForUser(Long userId, Pageable pageable) {
+    public ProjectStatusCountsResponse getProjectStatusCounts(Long projectId, Long currentUserId) {
+        taskService.verifyUserMembership(projectId, currentUserId);
+        return projectStatsService.getStatusCounts(projectId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<ProjectResponse> getProjectsForUser(Long userId, Pageable pageable, boolean includeStats) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
-        Page<Project> projectsPage = projectRepository.findByMembersContaining(user, pageable);
+        Page<Project> projectsPage = projectRepository.findByMembersContainingAndStatus(user, ProjectStatus.ACTIVE, pageable);
 
         List<ProjectResponse> projectResponses = projectsPage.getContent().stream()
                 .map(this::mapToProjectResponse)
                 .collect(Collectors.toList());
+        if (includeStats && !projectResponses.isEmpty()) {
+            attachStats(projectResponses);
+        }
 
         return new PagedResponse<>(
                 projectResponses,
@@ -101,18 +130,12 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional
-    public void deleteProject(Long projectId, Long currentUserId) {
+    public ProjectDeletionResponse deleteProject(Long projectId, Long currentUserId) {
         verifyProjectOwner(projectId, currentUserId); // Authorization check: Only owner can delete
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-
-        // Cascading should handle tasks, comments, attachments via annotations in Project/Task models
-        // If not using CascadeType.ALL/orphanRemoval=true, manual deletion is needed here.
-        // Also, if using external file storage, files might need manual deletion.
-
-        projectRepository.delete(project);
-        logger.info("User {} deleted project {}", currentUserId, projectId);
+        // Cascading through the entity graph would load every task, comment and attachment in one transaction;
+        // the project is marked as deleting here and purged in chunks by ProjectDeletionWorker instead.
+        return projectDeletionService.requestDeletion(projectId, currentUserId);
     }
 
     @Override
@@ -120,30 +143,26 @@ public class ProjectServiceImpl implements ProjectService {
     public void addMemberToProject(Long projectId, Long userIdToAdd, Long currentUserId) {
         verifyProjectOwner(projectId, currentUserId); // Authorization: Only owner can add members (adjust if needed)
 
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-        User userToAdd = userRepository.findById(userIdToAdd)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userIdToAdd));
-
-        if (project.getMembers().contains(userToAdd)) {
+        if (!userRepository.existsById(userIdToAdd)) {
+            throw new ResourceNotFoundException("User", "id", userIdToAdd);
+        }
+        if (projectRepository.addMembers(projectId, List.of(userIdToAdd)) == 0) {
             throw new BadRequestException("User is already a member of this project.");
         }
-
-        project.addMember(userToAdd);
-        projectRepository.save(project); // Need to save project to persist membership change
         logger.info("User {} added user {} to project {}", currentUserId, userIdToAdd, projectId);
     }
 
     @Override
     @Transactional
     public void removeMemberFromProject(Long projectId, Long userIdToRemove, Long currentUserId) {
-        Project project = projectRepository.findById(projectId)
+        Long ownerId = projectRepository.findOwnerIdById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
-        User userToRemove = userRepository.findById(userIdToRemove)
-                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userIdToRemove));
+        if (!userRepository.existsById(userIdToRemove)) {
+            throw new ResourceNotFoundException("User", "id", userIdToRemove);
+        }
 
         // Authorization: Owner can remove anyone (except maybe self), or user can remove self.
-        boolean isOwner = project.getOwner().getId().equals(currentUserId);
+        boolean isOwner = ownerId.equals(currentUserId);
         boolean isRemovingSelf = userIdToRemove.equals(currentUserId);
 
         if (!isOwner && !isRemovingSelf) {
@@ -152,24 +171,97 @@ public class ProjectServiceImpl implements ProjectService {
         if (isOwner && isRemovingSelf) {
             throw new BadRequestException("Project owner cannot remove themselves from the project."); // Or implement transfer ownership logic
         }
-        if (!project.getMembers().contains(userToRemove)) {
+        if (projectRepository.removeMembers(projectId, List.of(userIdToRemove)) == 0) {
             throw new BadRequestException("User is not a member of this project.");
         }
-
-        project.removeMember(userToRemove);
-        projectRepository.save(project);
         logger.info("User {} removed user {} from project {}", currentUserId, userIdToRemove, projectId);
     }
 
-    // --- Authorization Helpers ---
-    private void verifyUserMembership(Long projectId, Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        if (!projectRepository.existsByIdAndMembersContaining(projectId, user)) {
-            logger.warn("Access denied: User {} is not a member of project {}", userId, projectId);
-            throw new AccessDeniedException("User is not a member of project " + projectId);
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPagedResponse<UserSummaryResponse> getProjectMembers(Long projectId, Long currentUserId,
+                                                                      String query, String cursor, int size) {
+        taskService.verifyUserMembership(projectId, currentUserId);
+
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(CursorCodec.decode(cursor, 1)[0]);
+            } catch (NumberFormatException ex) {
+                throw new BadRequestException("Invalid cursor.", ex);
+            }
+        }
+        String pattern = "%";
+        if (query != null && !query.isBlank()) {
+            String escaped = query.trim().toLowerCase(Locale.ROOT)
+                    .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            pattern = escaped + "%";
+        }
+
+        // Fetch one extra row to know whether another page exists, without a count query
+        List<UserSummaryResponse> members = userRepository.findMemberSummaries(projectId, afterId, pattern, size + 1).stream()
+                .map(member -> new UserSummaryResponse(
+                        member.getId(), member.getUsername(), member.getFirstName(), member.getLastName()))
+                .collect(Collectors.toList());
+        boolean last = members.size() <= size;
+        String nextCursor = null;
+        if (!last) {
+            members = members.subList(0, size);
+            nextCursor = CursorCodec.encode(members.get(members.size() - 1).getId().toString());
+        }
+        return new CursorPagedResponse<>(members, size, nextCursor, last);
+    }
+
+    @Override
+    @Transactional
+    public BulkMembersResponse addMembersToProject(Long projectId, List<Long> userIdsToAdd, Long currentUserId) {
+        verifyProjectOwner(projectId, currentUserId);
+
+        Set<Long> userIds = new LinkedHashSet<>(userIdsToAdd);
+        verifyUsersExist(userIds);
+
+        int added = projectRepository.addMembers(projectId, userIds);
+        logger.info("User {} added {} of {} requested members to project {}", currentUserId, added, userIds.size(), projectId);
+        return new BulkMembersResponse(userIds.size(), added);
+    }
+
+    @Override
+    @Transactional
+    public BulkMembersResponse removeMembersFromProject(Long projectId, List<Long> userIdsToRemove, Long currentUserId) {
+        verifyProjectOwner(projectId, currentUserId);
+
+        Set<Long> userIds = new LinkedHashSet<>(userIdsToRemove);
+        if (userIds.contains(currentUserId)) {
+            throw new BadRequestException("Project owner cannot remove themselves from the project.");
+        }
+        verifyUsersExist(userIds);
+
+        int removed = projectRepository.removeMembers(projectId, userIds);
+        logger.info("User {} removed {} of {} requested members from project {}", currentUserId, removed, userIds.size(), projectId);
+        return new BulkMembersResponse(userIds.size(), removed);
+    }
+
+    private void verifyUsersExist(Set<Long> userIds) {
+        Set<Long> unknownIds = new LinkedHashSet<>(userIds);
+        unknownIds.removeAll(userRepository.findExistingIds(userIds));
+        if (!unknownIds.isEmpty()) {
+            throw new BadRequestException("Unknown user IDs: " + unknownIds);
+        }
+    }
+
+    private void attachStats(List<ProjectResponse> projects) {
+        List<Long> projectIds = projects.stream().map(ProjectResponse::getId).collect(Collectors.toList());
+        Map<Long, ProjectTaskStatsView> statsById = projectRepository.findTaskStats(projectIds).stream()
+                .collect(Collectors.toMap(ProjectTaskStatsView::getProjectId, Function.identity()));
+        for (ProjectResponse project : projects) {
+            ProjectTaskStatsView view = statsById.get(project.getId());
+            if (view != null) {
+                project.setStats(mapToProjectStatsResponse(view));
+            }
         }
     }
 
+    // --- Authorization Helpers ---
     private void verifyProjectOwner(Long projectId, Long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
         if (!projectRepository.existsByIdAndOwner(projectId, user)) {
@@ -194,7 +286,23 @@ public class ProjectServiceImpl implements ProjectService {
                     project.getOwner().getLastName()
             ));
         }
-        // Add counts here if desired
+        return dto;
+    }
+
+    private ProjectStatsResponse mapToProjectStatsResponse(ProjectTaskStatsView view) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        counts.put(TaskStatus.OPEN, view.getOpenCount());
+        counts.put(TaskStatus.IN_PROGRESS, view.getInProgressCount());
+        counts.put(TaskStatus.REVIEW, view.getReviewCount());
+        counts.put(TaskStatus.COMPLETED, view.getCompletedCount());
+        counts.put(TaskStatus.ARCHIVED, view.getArchivedCount());
+
+        ProjectStatsResponse dto = new ProjectStatsResponse();
+        dto.setTaskCountsByStatus(counts);
+        dto.setTotalTasks(counts.values().stream().mapToLong(Long::longValue).sum());
+        dto.setOverdueTasks(view.getOverdueCount());
+        dto.setMemberCount(view.getMemberCount());
+        dto.setLastActivityAt(view.getLastActivityAt());
         return dto;
     }
 }
\ No newline at end of file
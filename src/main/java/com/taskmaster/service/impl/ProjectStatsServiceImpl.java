@@ -0,0 +1,80 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.dto.project.ProjectStatusCountsResponse;
+import com.taskmaster.model.ProjectStatusCount;
+import com.taskmaster.model.common.TaskStatus;
+import com.taskmaster.repository.ProjectStatusCountRepository;
+import com.taskmaster.service.ProjectStatsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Service
+public class ProjectStatsServiceImpl implements ProjectStatsService {
+
+    @Autowired private ProjectStatusCountRepository projectStatusCountRepository;
+    @Autowired private FlowSnapshotTracker flowSnapshotTracker;
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectStatusCountsResponse getStatusCounts(Long projectId) {
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (ProjectStatusCount row : projectStatusCountRepository.findByProjectId(projectId)) {
+            counts.put(row.getStatus(), row.getTaskCount());
+        }
+
+        ProjectStatusCountsResponse dto = new ProjectStatusCountsResponse();
+        dto.setProjectId(projectId);
+        dto.setTaskCountsByStatus(counts);
+        dto.setTotalTasks(counts.values().stream().mapToLong(Long::longValue).sum());
+        return dto;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(Long projectId, TaskStatus oldStatus, TaskStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        flowSnapshotTracker.markChangedAfterCommit(projectId);
+        // Touch the rows in a fixed (ordinal) order so that two opposite transitions cannot deadlock
+        if (oldStatus != null && (newStatus == null || oldStatus.ordinal() < newStatus.ordinal())) {
+            projectStatusCountRepository.adjust(projectId, oldStatus.name(), -1);
+            if (newStatus != null) {
+                projectStatusCountRepository.adjust(projectId, newStatus.name(), 1);
+            }
+        } else {
+            projectStatusCountRepository.adjust(projectId, newStatus.name(), 1);
+            if (oldStatus != null) {
+                projectStatusCountRepository.adjust(projectId, oldStatus.name(), -1);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTasksDeleted(Long projectId, Map<TaskStatus, Long> deletedByStatus) {
+        flowSnapshotTracker.markChangedAfterCommit(projectId);
+        // Ordinal order, like recordStatusChange
+        for (TaskStatus status : TaskStatus.values()) {
+            Long deleted = deletedByStatus.get(status);
+            if (deleted != null && deleted > 0) {
+                projectStatusCountRepository.adjust(projectId, status.name(), -deleted);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public int repairStatusCounts(long fromId, long toId) {
+        return projectStatusCountRepository.repairFromTasks(fromId, toId)
+                + projectStatusCountRepository.repairEmptyStatuses(fromId, toId);
+    }
+}
@@ -0,0 +1,95 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.dto.storage.StorageUsageResponse;
+import com.taskmaster.exception.BadRequestException;
+import com.taskmaster.exception.ResourceNotFoundException;
+import com.taskmaster.repository.ProjectRepository;
+import com.taskmaster.repository.UserRepository;
+import com.taskmaster.service.StorageQuotaService;
+import com.taskmaster.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class StorageQuotaServiceImpl implements StorageQuotaService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StorageQuotaServiceImpl.class);
+
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TaskService taskService; // For project membership check
+
+    // Non-positive values disable the corresponding quota
+    @Value("${app.storage.project-quota-bytes:0}")
+    private long projectQuotaBytes;
+
+    @Value("${app.storage.user-quota-bytes:0}")
+    private long userQuotaBytes;
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void reserve(Long projectId, Long userId, long bytes) {
+        if (projectRepository.reserveStorage(projectId, bytes, effectiveQuota(projectQuotaBytes)) == 0) {
+            logger.warn("Upload of {} bytes rejected: project {} storage quota exceeded", bytes, projectId);
+            throw new BadRequestException("Project storage quota exceeded.");
+        }
+        // A failure here rolls back the project reservation with this transaction
+        if (userRepository.reserveStorage(userId, bytes, effectiveQuota(userQuotaBytes)) == 0) {
+            logger.warn("Upload of {} bytes rejected: user {} storage quota exceeded", bytes, userId);
+            throw new BadRequestException("User storage quota exceeded.");
+        }
+    }
+
+    @Override
+    @Transactional
+    public void release(Long projectId, Long userId, long bytes) {
+        projectRepository.releaseStorage(projectId, bytes);
+        userRepository.releaseStorage(userId, bytes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StorageUsageResponse getProjectUsage(Long projectId, Long currentUserId) {
+        taskService.verifyUserMembership(projectId, currentUserId);
+        long usedBytes = projectRepository.findStorageUsedBytesById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", projectId));
+        return toUsageResponse(projectId, usedBytes, projectQuotaBytes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StorageUsageResponse getUserUsage(Long userId) {
+        long usedBytes = userRepository.findStorageUsedBytesById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
+        return toUsageResponse(userId, usedBytes, userQuotaBytes);
+    }
+
+    @Override
+    @Transactional
+    public int reconcileProjectUsage(long fromId, long toId) {
+        return projectRepository.reconcileStorageUsage(fromId, toId);
+    }
+
+    @Override
+    @Transactional
+    public int reconcileUserUsage(long fromId, long toId) {
+        return userRepository.reconcileStorageUsage(fromId, toId);
+    }
+
+    // --- Helpers ---
+    private long effectiveQuota(long configuredQuota) {
+        return configuredQuota > 0 ? configuredQuota : Long.MAX_VALUE / 2; // Headroom so "used + bytes" cannot overflow
+    }
+
+    private StorageUsageResponse toUsageResponse(Long id, long usedBytes, long quotaBytes) {
+        if (quotaBytes <= 0) {
+            return new StorageUsageResponse(id, usedBytes, null, null);
+        }
+        return new StorageUsageResponse(id, usedBytes, quotaBytes, Math.max(quotaBytes - usedBytes, 0));
+    }
+}
@@ -0,0 +1,169 @@
+package com.taskmaster.service.impl;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable snapshot of one project's dependency graph in compressed sparse row form: task ids sorted in a
+ * long[], and per task a slice of an int[] of neighbour indexes, kept for both edge directions. No boxing and
+ * no per-node objects, so traversals over 100k tasks only walk primitive arrays.
+ */
+final class TaskDependencyGraph {
+
+    private final long[] taskIds;          // Sorted; a task's index is its position here
+    private final int[] blockerOffsets;    // Blockers of node i: blockers[blockerOffsets[i] .. blockerOffsets[i + 1])
+    private final int[] blockers;
+    private final int[] dependentOffsets;  // Tasks waiting for node i, same layout
+    private final int[] dependents;
+
+    private TaskDependencyGraph(long[] taskIds, int[] blockerOffsets, int[] blockers,
+                                int[] dependentOffsets, int[] dependents) {
+        this.taskIds = taskIds;
+        this.blockerOffsets = blockerOffsets;
+        this.blockers = blockers;
+        this.dependentOffsets = dependentOffsets;
+        this.dependents = dependents;
+    }
+
+    // Edge i: edgeTasks[i] is blocked by edgeBlockers[i]
+    static TaskDependencyGraph build(long[] edgeTasks, long[] edgeBlockers) {
+        int edgeCount = edgeTasks.length;
+        long[] ids = new long[edgeCount * 2];
+        System.arraycopy(edgeTasks, 0, ids, 0, edgeCount);
+        System.arraycopy(edgeBlockers, 0, ids, edgeCount, edgeCount);
+        Arrays.sort(ids);
+        int nodeCount = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[nodeCount++] = ids[i];
+            }
+        }
+        long[] taskIds = Arrays.copyOf(ids, nodeCount);
+
+        int[] from = new int[edgeCount];
+        int[] to = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            from[e] = Arrays.binarySearch(taskIds, edgeTasks[e]);
+            to[e] = Arrays.binarySearch(taskIds, edgeBlockers[e]);
+        }
+        int[] blockerOffsets = new int[nodeCount + 1];
+        int[] blockers = new int[edgeCount];
+        fillRows(from, to, blockerOffsets, blockers);
+        int[] dependentOffsets = new int[nodeCount + 1];
+        int[] dependents = new int[edgeCount];
+        fillRows(to, from, dependentOffsets, dependents);
+        return new TaskDependencyGraph(taskIds, blockerOffsets, blockers, dependentOffsets, dependents);
+    }
+
+    // Counting sort of the edges by source node
+    private static void fillRows(int[] sources, int[] targets, int[] offsets, int[] rows) {
+        for (int source : sources) {
+            offsets[source + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+        int[] next = Arrays.copyOf(offsets, offsets.length - 1);
+        for (int e = 0; e < sources.length; e++) {
+            rows[next[sources[e]]++] = targets[e];
+        }
+    }
+
+    int nodeCount() {
+        return taskIds.length;
+    }
+
+    int edgeCount() {
+        return blockers.length;
+    }
+
+    // Tasks the given task waits for, nearest first (breadth-first), at most limit of them
+    long[] blockersOf(long taskId, boolean transitive, int limit) {
+        return walk(taskId, blockerOffsets, blockers, transitive, limit);
+    }
+
+    // Tasks waiting for the given task, nearest first, at most limit of them
+    long[] dependentsOf(long taskId, boolean transitive, int limit) {
+        return walk(taskId, dependentOffsets, dependents, transitive, limit);
+    }
+
+    /**
+     * Longest chain of dependencies, counted in tasks, ordered from the first task to do to the last.
+     * Kahn's topological order with a longest-distance pass; empty when the project has no dependencies.
+     */
+    long[] criticalPath() {
+        int nodeCount = taskIds.length;
+        int[] pendingBlockers = new int[nodeCount];
+        int[] length = new int[nodeCount];
+        int[] previous = new int[nodeCount];
+        int[] queue = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < nodeCount; i++) {
+            pendingBlockers[i] = blockerOffsets[i + 1] - blockerOffsets[i];
+            length[i] = 1;
+            previous[i] = -1;
+            if (pendingBlockers[i] == 0) {
+                queue[tail++] = i;
+            }
+        }
+
+        int end = -1;
+        while (head < tail) {
+            int node = queue[head++];
+            if (end < 0 || length[node] > length[end]) {
+                end = node;
+            }
+            for (int e = dependentOffsets[node]; e < dependentOffsets[node + 1]; e++) {
+                int next = dependents[e];
+                if (length[node] + 1 > length[next]) {
+                    length[next] = length[node] + 1;
+                    previous[next] = node;
+                }
+                if (--pendingBlockers[next] == 0) {
+                    queue[tail++] = next;
+                }
+            }
+        }
+        if (end < 0) {
+            return new long[0];
+        }
+        long[] path = new long[length[end]];
+        int position = path.length;
+        for (int node = end; node >= 0; node = previous[node]) {
+            path[--position] = taskIds[node];
+        }
+        return path;
+    }
+
+    private long[] walk(long taskId, int[] offsets, int[] rows, boolean transitive, int limit) {
+        int start = Arrays.binarySearch(taskIds, taskId);
+        if (start < 0 || limit <= 0) {
+            return new long[0];
+        }
+        int[] queue = new int[taskIds.length];
+        BitSet visited = new BitSet(taskIds.length);
+        visited.set(start);
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        while (head < tail && tail <= limit) {
+            int node = queue[head++];
+            for (int e = offsets[node]; e < offsets[node + 1] && tail <= limit; e++) {
+                int next = rows[e];
+                if (!visited.get(next)) {
+                    visited.set(next);
+                    queue[tail++] = next;
+                }
+            }
+            if (!transitive) {
+                break;
+            }
+        }
+        long[] result = new long[tail - 1]; // Without the start task itself
+        for (int i = 1; i < tail; i++) {
+            result[i - 1] = taskIds[queue[i]];
+        }
+        return result;
+    }
+}
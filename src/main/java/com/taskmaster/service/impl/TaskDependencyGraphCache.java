@@ -0,0 +1,128 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.repository.TaskDependencyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory dependency graphs, one immutable snapshot per project, loaded on first read and dropped
+ * when an edge of the project changes. Each project keeps a version that every invalidation bumps, so
+ * a snapshot loaded concurrently with a change is never published over the invalidation.
+ */
+@Component
+public class TaskDependencyGraphCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDependencyGraphCache.class);
+
+    @Autowired
+    private TaskDependencyRepository taskDependencyRepository;
+
+    @Value("${app.dependencies.cache-max-edges:2000000}")
+    private long maxCachedEdges;
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong cachedEdges = new AtomicLong();
+
+    // graph is null until loaded and after an invalidation; the version survives both
+    private record Entry(long version, TaskDependencyGraph graph) {
+    }
+
+    // Must be called inside a transaction when the graph is not cached yet
+    TaskDependencyGraph get(Long projectId) {
+        Entry entry = entries.get(projectId);
+        if (entry != null && entry.graph() != null) {
+            return entry.graph();
+        }
+        long version = entry != null ? entry.version() : 0;
+        TaskDependencyGraph graph = load(projectId);
+        if (cachedEdges.get() + graph.edgeCount() > maxCachedEdges) {
+            evictAll();
+        }
+        entries.compute(projectId, (id, current) -> {
+            long currentVersion = current != null ? current.version() : 0;
+            if (currentVersion != version || (current != null && current.graph() != null)) {
+                return current; // Changed while loading (the next read reloads), or loaded by another thread
+            }
+            cachedEdges.addAndGet(graph.edgeCount());
+            return new Entry(version, graph);
+        });
+        return graph;
+    }
+
+    // Reads the committed edges, bypassing the cache
+    TaskDependencyGraph load(Long projectId) {
+        List<Object[]> edges = taskDependencyRepository.findEdgesByProjectId(projectId);
+        long[] tasks = new long[edges.size()];
+        long[] blockers = new long[edges.size()];
+        for (int i = 0; i < tasks.length; i++) {
+            Object[] edge = edges.get(i);
+            tasks[i] = ((Number) edge[0]).longValue();
+            blockers[i] = ((Number) edge[1]).longValue();
+        }
+        TaskDependencyGraph graph = TaskDependencyGraph.build(tasks, blockers);
+        logger.debug("Loaded dependency graph of project {}: {} tasks, {} edges",
+                projectId, graph.nodeCount(), graph.edgeCount());
+        return graph;
+    }
+
+    // Drops the project's graph once the surrounding transaction commits, so no reader reloads the old edges
+    public void invalidateAfterCommit(Long projectId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(projectId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(projectId);
+            }
+        });
+    }
+
+    public void invalidate(Long projectId) {
+        entries.compute(projectId, (id, current) -> {
+            if (current == null) {
+                return new Entry(1, null);
+            }
+            release(current);
+            return new Entry(current.version() + 1, null);
+        });
+    }
+
+    // For projects that no longer exist
+    public void remove(Long projectId) {
+        Entry removed = entries.remove(projectId);
+        if (removed != null) {
+            release(removed);
+        }
+    }
+
+    // No recency tracking: when the edge budget is exhausted every loaded graph is dropped and reloaded on demand
+    private void evictAll() {
+        for (Long projectId : entries.keySet()) {
+            entries.computeIfPresent(projectId, (id, current) -> {
+                if (current.graph() == null) {
+                    return current;
+                }
+                release(current);
+                return new Entry(current.version(), null);
+            });
+        }
+        logger.info("Dependency graph cache reached {} edges; dropped all loaded graphs", maxCachedEdges);
+    }
+
+    private void release(Entry entry) {
+        if (entry.graph() != null) {
+            cachedEdges.addAndGet(-entry.graph().edgeCount());
+        }
+    }
+}
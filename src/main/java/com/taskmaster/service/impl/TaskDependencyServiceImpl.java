@@ -0,0 +1,138 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.dto.task.TaskSummaryResponse;
+import com.taskmaster.exception.BadRequestException;
+import com.taskmaster.exception.ResourceNotFoundException;
+import com.taskmaster.model.TaskDependency;
+import com.taskmaster.repository.ProjectRepository;
+import com.taskmaster.repository.TaskDependencyRepository;
+import com.taskmaster.repository.TaskRepository;
+import com.taskmaster.service.TaskDependencyService;
+import com.taskmaster.service.TaskService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+public class TaskDependencyServiceImpl implements TaskDependencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskDependencyServiceImpl.class);
+    private static final int SUMMARY_BATCH_SIZE = 1000; // Ids per IN list when resolving traversal results
+
+    @Autowired private TaskDependencyRepository taskDependencyRepository;
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private TaskService taskService;
+    @Autowired private TaskDependencyGraphCache graphCache;
+
+    @Override
+    @Transactional
+    public List<TaskSummaryResponse> addDependency(Long projectId, Long taskId, Long blockedByTaskId, Long currentUserId) {
+        taskService.verifyUserMembership(projectId, currentUserId);
+        if (taskId.equals(blockedByTaskId)) {
+            throw new BadRequestException("A task cannot depend on itself.");
+        }
+        if (taskRepository.countByProjectIdAndIdIn(projectId, List.of(taskId, blockedByTaskId)) != 2) {
+            throw new ResourceNotFoundException("Task", "id", taskId + " or " + blockedByTaskId + " in project " + projectId);
+        }
+
+        // One graph change per project at a time, so two concurrent inserts cannot close a cycle together
+        projectRepository.lockForGraphChange(projectId);
+        if (taskDependencyRepository.existsEdge(taskId, blockedByTaskId)) {
+            throw new BadRequestException("Task " + taskId + " already depends on task " + blockedByTaskId + ".");
+        }
+        // Checked against the committed edges under the lock (the cached snapshot may lag a change committed just
+        // before), walking only what blockedByTaskId waits for instead of reloading the project graph
+        if (taskDependencyRepository.dependsOn(blockedByTaskId, taskId)) {
+            throw new BadRequestException("Task " + blockedByTaskId + " already waits for task " + taskId +
+                    "; the dependency would create a cycle.");
+        }
+
+        TaskDependency dependency = TaskDependency.builder()
+                .task(taskRepository.getReferenceById(taskId))
+                .blockedBy(taskRepository.getReferenceById(blockedByTaskId))
+                .projectId(projectId)
+                .build();
+        taskDependencyRepository.save(dependency);
+        graphCache.invalidateAfterCommit(projectId);
+        logger.info("User {} made task {} depend on task {} in project {}", currentUserId, taskId, blockedByTaskId, projectId);
+
+        return findSummaries(taskDependencyRepository.findBlockerIds(taskId).stream().mapToLong(Long::longValue).toArray());
+    }
+
+    @Override
+    @Transactional
+    public void removeDependency(Long projectId, Long taskId, Long blockedByTaskId, Long currentUserId) {
+        taskService.verifyUserMembership(projectId, currentUserId);
+        verifyTaskInProject(projectId, taskId);
+
+        if (taskDependencyRepository.deleteEdge(taskId, blockedByTaskId) == 0) {
+            throw new ResourceNotFoundException("Task dependency", "blockedByTaskId", blockedByTaskId);
+        }
+        graphCache.invalidateAfterCommit(projectId);
+        logger.info("User {} removed dependency of task {} on task {}", currentUserId, taskId, blockedByTaskId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskSummaryResponse> getBlockers(Long projectId, Long taskId, boolean transitive, int limit, Long currentUserId) {
+        taskService.verifyUserMembership(projectId, currentUserId);
+        verifyTaskInProject(projectId, taskId);
+        return findSummaries(graphCache.get(projectId).blockersOf(taskId, transitive, limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskSummaryResponse> getDependents(Long projectId, Long taskId, boolean transitive, int limit, Long currentUserId) {
+        taskService.verifyUserMembership(projectId, currentUserId);
+        verifyTaskInProject(projectId, taskId);
+        return findSummaries(graphCache.get(projectId).dependentsOf(taskId, transitive, limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskSummaryResponse> getCriticalPath(Long projectId, Long currentUserId) {
+        taskService.verifyUserMembership(projectId, currentUserId);
+        return findSummaries(graphCache.get(projectId).criticalPath());
+    }
+
+    // --- Helper Methods ---
+
+    private void verifyTaskInProject(Long projectId, Long taskId) {
+        Long taskProjectId = taskRepository.findProjectIdById(taskId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId));
+        if (!Objects.equals(taskProjectId, projectId)) {
+            throw new ResourceNotFoundException("Task", "id", taskId + " in project " + projectId);
+        }
+    }
+
+    // Resolves ids in batches and keeps the traversal order; tasks deleted since the snapshot are skipped
+    private List<TaskSummaryResponse> findSummaries(long[] taskIds) {
+        Map<Long, TaskSummaryResponse> byId = new HashMap<>();
+        for (int from = 0; from < taskIds.length; from += SUMMARY_BATCH_SIZE) {
+            List<Long> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(from + SUMMARY_BATCH_SIZE, taskIds.length); i++) {
+                batch.add(taskIds[i]);
+            }
+            for (TaskSummaryResponse summary : taskRepository.findSummariesByIds(batch)) {
+                byId.put(summary.getId(), summary);
+            }
+        }
+        List<TaskSummaryResponse> summaries = new ArrayList<>(taskIds.length);
+        for (long taskId : taskIds) {
+            TaskSummaryResponse summary = byId.get(taskId);
+            if (summary != null) {
+                summaries.add(summary);
+            }
+        }
+        return summaries;
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.model.common.TaskStatus;
+import com.taskmaster.repository.AttachmentRepository;
+import com.taskmaster.repository.CommentRepository;
+import com.taskmaster.repository.ProjectRepository;
+import com.taskmaster.repository.TaskClosureRepository;
+import com.taskmaster.repository.TaskDependencyRepository;
+import com.taskmaster.repository.TaskRepository;
+import com.taskmaster.repository.TaskStatusHistoryRepository;
+import com.taskmaster.repository.UserRepository;
+import com.taskmaster.repository.projection.AttachmentFileView;
+import com.taskmaster.repository.projection.StatusCountView;
+import com.taskmaster.service.FileStorageService;
+import com.taskmaster.service.ProjectStatsService;
+import com.taskmaster.service.TaskPurgeResult;
+import com.taskmaster.service.TaskPurgeService;
+import com.taskmaster.service.ThumbnailService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TaskPurgeServiceImpl implements TaskPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskPurgeServiceImpl.class);
+
+    @Autowired private TaskRepository taskRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private AttachmentRepository attachmentRepository;
+    @Autowired private TaskDependencyRepository taskDependencyRepository;
+    @Autowired private TaskClosureRepository taskClosureRepository;
+    @Autowired private TaskStatusHistoryRepository taskStatusHistoryRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private ProjectRepository projectRepository;
+    @Autowired private ProjectStatsService projectStatsService;
+    @Autowired private FileStorageService fileStorageService;
+    @Autowired private ThumbnailService thumbnailService;
+    @Autowired private TaskDependencyGraphCache graphCache;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public TaskPurgeResult purgeTasks(Long projectId, Collection<Long> taskIds, boolean projectRemains) {
+        if (taskIds.isEmpty()) {
+            return new TaskPurgeResult(0, 0, 0, 0);
+        }
+        List<AttachmentFileView> files = attachmentRepository.findFileViewsByTaskIds(taskIds);
+        Map<TaskStatus, Long> deletedByStatus = new EnumMap<>(TaskStatus.class);
+        if (projectRemains) {
+            for (StatusCountView row : taskRepository.countByStatusForIds(taskIds)) {
+                deletedByStatus.put(row.getStatus(), row.getTaskCount());
+            }
+        }
+
+        taskRepository.detachChildren(taskIds);
+        taskClosureRepository.purgeByTaskIds(taskIds);
+        taskStatusHistoryRepository.purgeByTaskIds(taskIds);
+        if (taskDependencyRepository.purgeByTaskIds(taskIds) > 0) {
+            graphCache.invalidateAfterCommit(projectId);
+        }
+        int deletedComments = commentRepository.purgeByTaskIds(taskIds);
+        int deletedAttachments = attachmentRepository.purgeByTaskIds(taskIds);
+        int deletedTasks = taskRepository.purgeByIds(taskIds);
+
+        Map<Long, Long> bytesByUploader = new HashMap<>();
+        for (AttachmentFileView file : files) {
+            if (file.getFileSize() != null) {
+                bytesByUploader.merge(file.getUploaderId(), file.getFileSize(), Long::sum);
+            }
+        }
+        bytesByUploader.forEach(userRepository::releaseStorage);
+        long reclaimedBytes = bytesByUploader.values().stream().mapToLong(Long::longValue).sum();
+        if (projectRemains) {
+            if (reclaimedBytes > 0) {
+                projectRepository.releaseStorage(projectId, reclaimedBytes);
+            }
+            projectStatsService.recordTasksDeleted(projectId, deletedByStatus);
+        }
+
+        if (!files.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    files.forEach(file -> deleteStoredFile(file.getFilePath()));
+                }
+            });
+        }
+        return new TaskPurgeResult(deletedTasks, deletedComments, deletedAttachments, reclaimedBytes);
+    }
+
+    private void deleteStoredFile(String filePath) {
+        try {
+            fileStorageService.deleteFile(filePath);
+            String thumbnailPath = thumbnailService.getThumbnailPath(filePath);
+            if (fileStorageService.fileExists(thumbnailPath)) {
+                fileStorageService.deleteFile(thumbnailPath);
+            }
+        } catch (Exception e) {
+            // The rows are already gone; an orphaned file only wastes disk space
+            logger.error("Failed to delete file {} of a deleted task", filePath, e);
+        }
+    }
+}
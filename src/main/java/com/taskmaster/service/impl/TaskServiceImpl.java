@@ -1,9 +1,15 @@
 package com.taskmaster.service.impl;
 
+import com.taskmaster.diagnostics.jfr.MembershipCheckEvent;
 import com.taskmaster.dto.PagedResponse;
+import com.taskmaster.dto.task.BoardColumnResponse;
+import com.taskmaster.dto.task.BoardResponse;
+import com.taskmaster.dto.task.SubtreeStatsResponse;
 import com.taskmaster.dto.task.TaskCreateRequest;
+import com.taskmaster.dto.task.TaskPositionRequest;
 import com.taskmaster.dto.task.TaskResponse;
 import com.taskmaster.dto.task.TaskUpdateRequest;
+import com.taskmaster.dto.user.UserSummaryResponse;
 import com.taskmaster.exception.BadRequestException;
 import com.taskmaster.exception.ResourceNotFoundException;
 import com.taskmaster.model.Project;
@@ -11,9 +17,18 @@ import com.taskmaster.model.Task;
 import com.taskmaster.model.User;
 import com.taskmaster.model.common.TaskStatus;
 import com.taskmaster.repository.ProjectRepository;
+import com.taskmaster.repository.TaskClosureRepository;
 import com.taskmaster.repository.TaskRepository;
+import com.taskmaster.repository.TaskStatusHistoryRepository;
 import com.taskmaster.repository.UserRepository;
+import com.taskmaster.repository.projection.BoardTaskView;
+import com.taskmaster.repository.projection.StatusCountView;
+import com.taskmaster.service.ProjectStatsService;
+import com.taskmaster.service.TaskPurgeService;
 import com.taskmaster.service.TaskService;
+import com.taskmaster.util.CursorCodec;
+import com.taskmaster.util.LexoRank;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,8 +39,13 @@ import org.springframework.security.access.AccessDeniedException; // Or custom a
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 // TODO: Implement Specification builders for dynamic filtering/searching
@@ -34,15 +54,23 @@ import java.util.stream.Collectors;
 public class TaskServiceImpl implements TaskService {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
+    private static final int MAX_BOARD_RANK_LENGTH = 64; // Length of the board_rank column
+    private static final int RANK_UPDATE_BATCH_SIZE = 1000;
+    private static final int SUBTREE_DELETE_BATCH_SIZE = 500;
 
     @Autowired private TaskRepository taskRepository;
     @Autowired private ProjectRepository projectRepository;
     @Autowired private UserRepository userRepository;
+    @Autowired private ProjectStatsService projectStatsService;
+    @Autowired private TaskClosureRepository taskClosureRepository;
+    @Autowired private TaskPurgeService taskPurgeService;
+    @Autowired private TaskStatusHistoryRepository taskStatusHistoryRepository;
+    @Autowired private MeterRegistry meterRegistry;
     // TODO: Inject ModelMapper or write manual mapping methods
 
     @Override
     @Transactional(readOnly = true)
-    public PagedResponse<TaskResponse> getTasksByProjectId(Long projectId, Long currentUserId, String statusFilter, String searchTerm, Pageable pageable) {
+    public PagedResponse<TaskResponse> getTasksByProjectId(Long projectId, Long currentUserId, String statusFilter, String searchTerm, Long subtreeOf, Pageable pageable) {
         verifyUserMembership(projectId, currentUserId); // Check access first
 
         // TODO: Build a dynamic Specification based on statusFilter and searchTerm
@@ -58,6 +86,9 @@ public class TaskServiceImpl implements TaskService {
         if (searchTerm != null && !searchTerm.isBlank()) {
             spec = spec.and(TaskSpecifications.containsText(searchTerm));
         }
+        if (subtreeOf != null) {
+            spec = spec.and(TaskSpecifications.inSubtreeOf(subtreeOf));
+        }
 
         Page<Task> tasksPage = taskRepository.findAll(spec, pageable);
 
@@ -75,6 +106,74 @@ public class TaskServiceImpl implements TaskService {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public SubtreeStatsResponse getSubtreeStats(Long projectId, Long taskId, Long currentUserId) {
+        verifyUserMembership(projectId, currentUserId);
+        if (!taskRepository.findProjectIdById(taskId).map(projectId::equals).orElse(false)) {
+            throw new ResourceNotFoundException("Task", "id", taskId + " in project " + projectId);
+        }
+
+        Map<TaskStatus, Long> counts = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (StatusCountView row : taskRepository.countSubtreeByStatus(taskId)) {
+            counts.put(row.getStatus(), row.getTaskCount());
+        }
+
+        SubtreeStatsResponse dto = new SubtreeStatsResponse();
+        dto.setTaskId(taskId);
+        dto.setTaskCountsByStatus(counts);
+        dto.setTotalTasks(counts.values().stream().mapToLong(Long::longValue).sum());
+        return dto;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BoardResponse getBoard(Long projectId, Long currentUserId, int perColumn) {
+        verifyUserMembership(projectId, currentUserId);
+
+        String statuses = Arrays.stream(TaskStatus.values()).map(Enum::name).collect(Collectors.joining(","));
+        // One extra card per column tells whether the column has more, without a count query
+        Map<String, List<BoardTaskView>> cardsByStatus = taskRepository
+                .findBoardCards(projectId, statuses, "", 0L, perColumn + 1).stream()
+                .collect(Collectors.groupingBy(BoardTaskView::getStatus));
+        Map<TaskStatus, Long> totals = projectStatsService.getStatusCounts(projectId).getTaskCountsByStatus();
+
+        List<BoardColumnResponse> columns = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            columns.add(mapToBoardColumn(projectId, status, cardsByStatus.getOrDefault(status.name(), List.of()),
+                    perColumn, totals.get(status)));
+        }
+
+        BoardResponse board = new BoardResponse();
+        board.setProjectId(projectId);
+        board.setColumns(columns);
+        return board;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BoardColumnResponse getBoardColumn(Long projectId, TaskStatus status, Long currentUserId, String cursor, int size) {
+        verifyUserMembership(projectId, currentUserId);
+
+        String afterRank = "";
+        long afterId = 0L;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] position = CursorCodec.decode(cursor, 2);
+            try {
+                afterRank = position[0];
+                afterId = Long.parseLong(position[1]);
+            } catch (NumberFormatException ex) {
+                throw new BadRequestException("Invalid cursor.", ex);
+            }
+        }
+        List<BoardTaskView> cards = taskRepository.findBoardCards(projectId, status.name(), afterRank, afterId, size + 1);
+        Long total = projectStatsService.getStatusCounts(projectId).getTaskCountsByStatus().get(status);
+        return mapToBoardColumn(projectId, status, cards, size, total);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagedResponse<TaskResponse> getTasksAssignedToUser(Long userId, Pageable pageable) {
@@ -126,17 +225,31 @@ public class TaskServiceImpl implements TaskService {
             }
         }
 
+        Task parent = null;
+        if (taskRequest.getParentId() != null) {
+            parent = taskRepository.findByIdAndProjectId(taskRequest.getParentId(), projectId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task (Parent)", "id", taskRequest.getParentId() + " in project " + projectId));
+            projectRepository.lockForGraphChange(projectId); // The parent's ancestors must not move while they are copied
+        }
+
+        TaskStatus status = taskRequest.getStatus() != null ? taskRequest.getStatus() : TaskStatus.OPEN; // Default to OPEN
         Task task = Task.builder()
                 .title(taskRequest.getTitle())
                 .description(taskRequest.getDescription())
                 .dueDate(taskRequest.getDueDate())
-                .status(taskRequest.getStatus() != null ? taskRequest.getStatus() : TaskStatus.OPEN) // Default to OPEN
+                .status(status)
+                .boardRank(LexoRank.after(taskRepository.findLastBoardRank(projectId, status, 0L).orElse(null))) // Bottom of its column
                 .project(project)
+                .parent(parent)
                 .assignee(assignee)
                 // Note: Auditable fields (createdAt, updatedAt) are set automatically
                 .build();
 
         Task savedTask = taskRepository.save(task);
+        if (parent != null) {
+            taskClosureRepository.insertLinksToParent(parent.getId(), savedTask.getId());
+        }
+        onStatusChange(projectId, savedTask.getId(), null, savedTask.getStatus(), creatorUserId);
         logger.info("User {} created task {} in project {}", creatorUserId, savedTask.getId(), projectId);
         return mapToTaskResponse(savedTask);
     }
@@ -146,17 +259,21 @@ public class TaskServiceImpl implements TaskService {
     public TaskResponse updateTask(Long projectId, Long taskId, TaskUpdateRequest taskRequest, Long currentUserId) {
         verifyUserMembership(projectId, currentUserId); // Ensure updater is part of the project
 
-        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
+        Task task = taskRepository.findByIdAndProjectIdForUpdate(taskId, projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId + " in project " + projectId));
 
         // TODO: Add more granular authorization? Only assignee or project owner can update?
         // Example: if (!task.getAssignee().getId().equals(currentUserId) && !task.getProject().getOwner().getId().equals(currentUserId)) { throw ... }
 
         // Update fields from request DTO (use ModelMapper or manual mapping)
+        TaskStatus oldStatus = task.getStatus();
         task.setTitle(taskRequest.getTitle());
         task.setDescription(taskRequest.getDescription());
         task.setStatus(taskRequest.getStatus());
         task.setDueDate(taskRequest.getDueDate());
+        if (oldStatus != task.getStatus()) {
+            appendToBoardColumn(task, projectId);
+        }
 
         // Handle assignee update separately if needed (e.g., via assignTask method)
         if (taskRequest.getAssigneeId() != null) {
@@ -169,6 +286,7 @@ public class TaskServiceImpl implements TaskService {
         }
 
         Task updatedTask = taskRepository.save(task);
+        onStatusChange(projectId, taskId, oldStatus, updatedTask.getStatus(), currentUserId);
         logger.info("User {} updated task {}", currentUserId, updatedTask.getId());
         return mapToTaskResponse(updatedTask);
     }
@@ -178,7 +296,7 @@ public class TaskServiceImpl implements TaskService {
     @Transactional
     public TaskResponse updateTaskStatus(Long projectId, Long taskId, TaskStatus newStatus, Long currentUserId) {
         verifyUserMembership(projectId, currentUserId);
-        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
+        Task task = taskRepository.findByIdAndProjectIdForUpdate(taskId, projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId + " in project " + projectId));
 
         // TODO: Add authorization: Who can change status? Assignee? Any member?
@@ -190,12 +308,141 @@ public class TaskServiceImpl implements TaskService {
 
         // Optional: Add logic for valid status transitions (e.g., cannot go from COMPLETED back to OPEN easily)
 
+        TaskStatus oldStatus = task.getStatus();
         task.setStatus(newStatus);
+        appendToBoardColumn(task, projectId);
         Task updatedTask = taskRepository.save(task);
+        onStatusChange(projectId, taskId, oldStatus, newStatus, currentUserId);
         logger.info("User {} updated status of task {} to {}", currentUserId, taskId, newStatus);
         return mapToTaskResponse(updatedTask);
     }
 
+    @Override
+    @Transactional
+    public TaskResponse moveTask(Long projectId, Long taskId, TaskPositionRequest positionRequest, Long currentUserId) {
+        verifyUserMembership(projectId, currentUserId);
+        Task task = taskRepository.findByIdAndProjectIdForUpdate(taskId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId + " in project " + projectId));
+
+        Long previousId = positionRequest.getPreviousTaskId();
+        Long nextId = positionRequest.getNextTaskId();
+        if (taskId.equals(previousId) || taskId.equals(nextId)) {
+            throw new BadRequestException("A task cannot be its own neighbour.");
+        }
+        TaskStatus targetStatus = positionRequest.getStatus();
+        for (Long neighbourId : new Long[]{previousId, nextId}) {
+            if (neighbourId == null) {
+                continue;
+            }
+            Task neighbour = taskRepository.findByIdAndProjectId(neighbourId, projectId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task", "id", neighbourId + " in project " + projectId));
+            if (targetStatus != null && targetStatus != neighbour.getStatus()) {
+                throw new BadRequestException("Neighbouring tasks must be in the target status column.");
+            }
+            targetStatus = neighbour.getStatus();
+        }
+        if (targetStatus == null) {
+            targetStatus = task.getStatus();
+        }
+
+        String rank = resolveBoardRank(projectId, targetStatus, taskId, previousId, nextId);
+        if (rank == null) {
+            // Neighbours share a rank (or predate ranking) or the gap is exhausted: respace the column, then retry once
+            rebalanceBoardColumn(projectId, targetStatus);
+            task = taskRepository.findByIdAndProjectIdForUpdate(taskId, projectId).orElseThrow();
+            rank = resolveBoardRank(projectId, targetStatus, taskId, previousId, nextId);
+            if (rank == null) {
+                throw new BadRequestException("The previous task must come before the next task.");
+            }
+        }
+
+        TaskStatus oldStatus = task.getStatus();
+        task.setBoardRank(rank);
+        task.setStatus(targetStatus);
+        Task updatedTask = taskRepository.save(task);
+        onStatusChange(projectId, taskId, oldStatus, targetStatus, currentUserId);
+        logger.info("User {} moved task {} in project {}", currentUserId, taskId, projectId);
+        return mapToTaskResponse(updatedTask);
+    }
+
+    // Returns a rank between the requested neighbours, or null if there is no room for one
+    private String resolveBoardRank(Long projectId, TaskStatus status, Long taskId, Long previousId, Long nextId) {
+        String lower = previousId != null ? taskRepository.findBoardRankById(previousId).orElse("") : null;
+        String upper = nextId != null ? taskRepository.findBoardRankById(nextId).orElse("") : null;
+        // With a single neighbour, the other bound is whatever currently sits on that side of it
+        if (lower != null && upper == null) {
+            upper = taskRepository.findNextBoardRank(projectId, status, lower, taskId).orElse(null);
+        } else if (upper != null && lower == null) {
+            lower = taskRepository.findPreviousBoardRank(projectId, status, upper, taskId).orElse(null);
+        } else if (lower == null) {
+            lower = taskRepository.findLastBoardRank(projectId, status, taskId).orElse(null);
+        }
+
+        boolean unranked = (lower != null && lower.isEmpty()) || (upper != null && upper.isEmpty());
+        if (unranked || (lower != null && upper != null && lower.compareTo(upper) >= 0)) {
+            return null;
+        }
+        String rank = upper == null ? LexoRank.after(lower)
+                : lower == null ? LexoRank.before(upper)
+                : LexoRank.between(lower, upper);
+        return rank.length() <= MAX_BOARD_RANK_LENGTH ? rank : null;
+    }
+
+    // Puts a task that changes status at the bottom of its new column
+    private void appendToBoardColumn(Task task, Long projectId) {
+        task.setBoardRank(LexoRank.after(
+                taskRepository.findLastBoardRank(projectId, task.getStatus(), task.getId()).orElse(null)));
+    }
+
+    @Override
+    @Transactional
+    public int rebalanceBoardColumn(Long projectId, TaskStatus status) {
+        List<Long> taskIds = taskRepository.findIdsInBoardOrder(projectId, status);
+        List<String> ranks = LexoRank.spread(taskIds.size());
+        for (int from = 0; from < taskIds.size(); from += RANK_UPDATE_BATCH_SIZE) {
+            int to = Math.min(from + RANK_UPDATE_BATCH_SIZE, taskIds.size());
+            taskRepository.updateBoardRanks(
+                    taskIds.subList(from, to).stream().map(String::valueOf).collect(Collectors.joining(",")),
+                    String.join(",", ranks.subList(from, to)));
+        }
+        logger.debug("Rebalanced board ranks of {} {} tasks in project {}", taskIds.size(), status, projectId);
+        return taskIds.size();
+    }
+
+    @Override
+    @Transactional
+    public TaskResponse moveTaskToParent(Long projectId, Long taskId, Long parentId, Long currentUserId) {
+        verifyUserMembership(projectId, currentUserId);
+
+        Task task = taskRepository.findByIdAndProjectId(taskId, projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Task", "id", taskId + " in project " + projectId));
+        Task parent = null;
+        if (parentId != null) {
+            if (parentId.equals(taskId)) {
+                throw new BadRequestException("A task cannot be its own parent.");
+            }
+            parent = taskRepository.findByIdAndProjectId(parentId, projectId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Task (Parent)", "id", parentId + " in project " + projectId));
+        }
+
+        // One hierarchy change per project at a time, so two concurrent moves cannot build a loop
+        projectRepository.lockForGraphChange(projectId);
+        if (parentId != null && taskClosureRepository.isDescendant(taskId, parentId)) {
+            throw new BadRequestException("Task " + parentId + " is a subtask of task " + taskId + " and cannot become its parent.");
+        }
+
+        // Two set-based statements rewrite the links of the whole subtree, however deep
+        taskClosureRepository.detachSubtree(taskId);
+        if (parent != null) {
+            taskClosureRepository.attachSubtree(parentId, taskId);
+        }
+        task.setParent(parent);
+
+        Task updatedTask = taskRepository.save(task);
+        logger.info("User {} moved task {} under parent {}", currentUserId, taskId, parentId);
+        return mapToTaskResponse(updatedTask);
+    }
+
     @Override
     @Transactional
     public TaskResponse assignTask(Long projectId, Long taskId, Long assigneeId, Long currentUserId) {
@@ -243,27 +490,89 @@ public class TaskServiceImpl implements TaskService {
             throw new AccessDeniedException("Only the project owner can delete tasks.");
         }
 
-        // TODO: Handle related entities if needed (comments, attachments are cascaded by default)
-        // If using cloud storage, you might need to delete files from storage here *before* deleting the attachment entity.
-
-        taskRepository.delete(task);
-        logger.info("User {} deleted task {}", currentUserId, taskId);
+        // The whole subtree goes, in batches of bulk statements rather than entity cascades
+        List<Long> subtreeIds = new ArrayList<>(taskClosureRepository.findDescendantIds(taskId));
+        subtreeIds.add(taskId);
+        for (int from = 0; from < subtreeIds.size(); from += SUBTREE_DELETE_BATCH_SIZE) {
+            taskPurgeService.purgeTasks(projectId,
+                    subtreeIds.subList(from, Math.min(from + SUBTREE_DELETE_BATCH_SIZE, subtreeIds.size())), true);
+        }
+        logger.info("User {} deleted task {} with {} subtasks", currentUserId, taskId, subtreeIds.size() - 1);
     }
 
 
     // --- Helper Methods ---
 
+    // Keeps the per-project status rollups and the status history in step with every task change, in the same
+    // transaction. Both are blind writes: the old status is already known from the loaded task.
+    private void onStatusChange(Long projectId, Long taskId, TaskStatus oldStatus, TaskStatus newStatus, Long actorId) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        projectStatsService.recordStatusChange(projectId, oldStatus, newStatus);
+        taskStatusHistoryRepository.append(taskId, projectId, oldStatus != null ? oldStatus.ordinal() : null,
+                newStatus.ordinal(), actorId, Instant.now());
+    }
+
     @Override
     public void verifyUserMembership(Long projectId, Long userId) {
-        User user = userRepository.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
-        if (!projectRepository.existsByIdAndMembersContaining(projectId, user)) {
+        MembershipCheckEvent event = new MembershipCheckEvent();
+        event.begin();
+        boolean member = projectRepository.isMember(projectId, userId);
+        event.end();
+        if (event.shouldCommit()) {
+            event.projectId = projectId;
+            event.userId = userId;
+            event.granted = member;
+            event.commit();
+        }
+        if (!member) {
             logger.warn("Access denied: User {} is not a member of project {}", userId, projectId);
+            meterRegistry.counter("taskmaster.authorization.failures", "check", "project-membership").increment();
             throw new AccessDeniedException("User is not a member of the project " + projectId);
             // Or throw ResourceNotFound if you want to hide project existence:
             // throw new ResourceNotFoundException("Project", "id", projectId);
         }
     }
 
+    @Override
+    @Transactional
+    public int repairTaskCounters(long fromId, long toId) {
+        return taskRepository.repairCounters(fromId, toId);
+    }
+
+    private BoardColumnResponse mapToBoardColumn(Long projectId, TaskStatus status, List<BoardTaskView> cards,
+                                                 int limit, Long total) {
+        boolean hasMore = cards.size() > limit;
+        List<BoardTaskView> page = hasMore ? cards.subList(0, limit) : cards;
+
+        BoardColumnResponse column = new BoardColumnResponse();
+        column.setStatus(status);
+        column.setTotalTasks(total != null ? total : 0L);
+        column.setTasks(page.stream().map(card -> mapToTaskResponse(projectId, card)).collect(Collectors.toList()));
+        BoardTaskView lastCard = hasMore ? page.get(page.size() - 1) : null;
+        column.setNextCursor(hasMore ? CursorCodec.encode(lastCard.getBoardRank(), lastCard.getId()) : null);
+        return column;
+    }
+
+    private TaskResponse mapToTaskResponse(Long projectId, BoardTaskView card) {
+        TaskResponse res = new TaskResponse();
+        res.setId(card.getId());
+        res.setTitle(card.getTitle());
+        res.setStatus(TaskStatus.valueOf(card.getStatus()));
+        res.setDueDate(card.getDueDate());
+        res.setProjectId(projectId);
+        res.setCreatedAt(card.getCreatedAt());
+        res.setUpdatedAt(card.getUpdatedAt());
+        if (card.getAssigneeId() != null) {
+            res.setAssignee(new UserSummaryResponse(card.getAssigneeId(), card.getAssigneeUsername(),
+                    card.getAssigneeFirstName(), card.getAssigneeLastName()));
+        }
+        res.setCommentCount(card.getCommentCount());
+        res.setAttachmentCount(card.getAttachmentCount());
+        return res;
+    }
+
     // TODO: Implement mapping logic (Manual or using ModelMapper)
     private TaskResponse mapToTaskResponse(Task task) {
         TaskResponse res = new TaskResponse();
@@ -273,6 +582,7 @@ public class TaskServiceImpl implements TaskService {
         res.setStatus(task.getStatus());
         res.setDueDate(task.getDueDate());
         res.setProjectId(task.getProject().getId());
+        res.setParentId(task.getParent() != null ? task.getParent().getId() : null); // Proxy id, no load
         res.setCreatedAt(task.getCreatedAt());
         res.setUpdatedAt(task.getUpdatedAt());
 
@@ -283,34 +593,12 @@ public class TaskServiceImpl implements TaskService {
             res.setAssignee(null); // Placeholder: Implement UserSummaryResponse and mapping
         }
 
-        // Example counts (requires loading collections or dedicated count queries)
-        // res.setCommentCount(task.getComments() != null ? task.getComments().size() : 0);
-        // res.setAttachmentCount(task.getAttachments() != null ? task.getAttachments().size() : 0);
-        res.setCommentCount(0); // Placeholder
-        res.setAttachmentCount(0); // Placeholder
+        // Denormalized counters (null until the row is re-read after insert)
+        res.setCommentCount(task.getCommentCount() != null ? task.getCommentCount() : 0);
+        res.setAttachmentCount(task.getAttachmentCount() != null ? task.getAttachmentCount() : 0);
 
 
         return res;
     }
 
 }
-
-
-class TaskSpecifications {
-    public static Specification<Task> belongsToProject(Long projectId) {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get("project").get("id"), projectId);
-    }
-    public static Specification<Task> hasStatus(TaskStatus status) {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(root.get("status"), status);
-    }
-    public static Specification<Task> containsText(String searchTerm) {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.or(
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), "%" + searchTerm.toLowerCase() + "%"),
-                        criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), "%" + searchTerm.toLowerCase() + "%")
-                );
-    }
-
-}
\ No newline at end of file
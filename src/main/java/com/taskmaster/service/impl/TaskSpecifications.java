@@ -0,0 +1,39 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.model.Task;
+import com.taskmaster.model.TaskClosure;
+import com.taskmaster.model.common.TaskStatus;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+class TaskSpecifications {
+    public static Specification<Task> belongsToProject(Long projectId) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("project").get("id"), projectId);
+    }
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("status"), status);
+    }
+    // The task itself plus its descendants, through the closure table index
+    public static Specification<Task> inSubtreeOf(Long taskId) {
+        return (root, query, criteriaBuilder) -> {
+            Subquery<Long> descendants = query.subquery(Long.class);
+            Root<TaskClosure> closure = descendants.from(TaskClosure.class);
+            descendants.select(closure.get("descendantId"))
+                    .where(criteriaBuilder.equal(closure.get("ancestorId"), taskId));
+            return criteriaBuilder.or(
+                    criteriaBuilder.equal(root.get("id"), taskId),
+                    root.get("id").in(descendants));
+        };
+    }
+    public static Specification<Task> containsText(String searchTerm) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.or(
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), "%" + searchTerm.toLowerCase() + "%"),
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), "%" + searchTerm.toLowerCase() + "%")
+                );
+    }
+
+}
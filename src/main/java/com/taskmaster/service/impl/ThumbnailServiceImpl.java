@@ -0,0 +1,205 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.exception.BadRequestException;
+import com.taskmaster.exception.ServiceUnavailableException;
+import com.taskmaster.service.FileStorageService;
+import com.taskmaster.service.ThumbnailService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+public class ThumbnailServiceImpl implements ThumbnailService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ThumbnailServiceImpl.class);
+
+    private static final String VARIANT = "thumb";
+    private static final Set<String> SUPPORTED_TYPES = Set.of("image/jpeg", "image/png", "image/gif", "image/bmp");
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L; // Refuse decompression bombs
+
+    @Autowired private FileStorageService fileStorageService;
+    @Autowired @Qualifier("thumbnailExecutor") private Executor thumbnailExecutor;
+
+    @Value("${app.thumbnail.size:200}")
+    private int thumbnailSize;
+
+    @Value("${app.thumbnail.timeout-ms:5000}")
+    private long generationTimeoutMillis;
+
+    // Single-flight: at most one generation per original file at a time, later callers join the running one
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean supports(String contentType) {
+        return contentType != null && SUPPORTED_TYPES.contains(contentType.toLowerCase());
+    }
+
+    @Override
+    public void generateThumbnailAsync(String filePath) {
+        try {
+            generateOnce(filePath, thumbnailExecutor).whenComplete((thumbnailPath, ex) -> {
+                if (ex != null) {
+                    logger.warn("Could not generate thumbnail for {}; it will be retried on demand", filePath, ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            logger.debug("Thumbnail pool saturated; thumbnail for {} will be generated on demand", filePath);
+        }
+    }
+
+    @Override
+    public Resource getThumbnail(String filePath) {
+        String thumbnailPath = getThumbnailPath(filePath);
+        if (!fileStorageService.fileExists(thumbnailPath)) {
+            awaitGeneration(filePath);
+        }
+        return fileStorageService.loadFileAsResource(thumbnailPath);
+    }
+
+    // On-demand generation shares the bounded pool with uploads: a burst of misses queues there instead of decoding
+    // on request threads, and is answered with 503 once the queue is full or the wait times out
+    private void awaitGeneration(String filePath) {
+        CompletableFuture<String> generation;
+        try {
+            generation = generateOnce(filePath, thumbnailExecutor);
+        } catch (RejectedExecutionException ex) {
+            throw busy();
+        }
+        try {
+            generation.get(generationTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw busy(); // Keeps running; the next request finds the stored thumbnail
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a thumbnail", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RejectedExecutionException) {
+                throw busy(); // Joined a flight that the pool rejected
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Could not generate thumbnail for file " + filePath, ex.getCause());
+        }
+    }
+
+    private static ServiceUnavailableException busy() {
+        return new ServiceUnavailableException("Thumbnail generation is busy. Retry after 1 second(s).", 1);
+    }
+
+    @Override
+    public String getThumbnailPath(String filePath) {
+        return fileStorageService.getDerivativePath(filePath, VARIANT);
+    }
+
+    // --- Generation ---
+
+    private CompletableFuture<String> generateOnce(String filePath, Executor executor) {
+        CompletableFuture<String> created = new CompletableFuture<>();
+        CompletableFuture<String> running = inFlight.putIfAbsent(filePath, created);
+        if (running != null) {
+            return running;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(generate(filePath));
+                } catch (Throwable ex) {
+                    created.completeExceptionally(ex);
+                } finally {
+                    inFlight.remove(filePath, created);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(filePath, created);
+            created.completeExceptionally(ex);
+            throw ex;
+        }
+        return created;
+    }
+
+    private String generate(String filePath) {
+        String thumbnailPath = getThumbnailPath(filePath);
+        if (fileStorageService.fileExists(thumbnailPath)) {
+            return thumbnailPath; // Generated by an earlier flight
+        }
+        Resource original = fileStorageService.loadFileAsResource(filePath);
+        try {
+            BufferedImage source = readSubsampled(original.getFile());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(scaleToFit(source), "png", out);
+            String storedPath = fileStorageService.storeDerivative(filePath, VARIANT, out.toByteArray());
+            logger.info("Generated thumbnail for '{}'", filePath);
+            return storedPath;
+        } catch (IOException ex) {
+            throw new RuntimeException("Could not generate thumbnail for file " + filePath, ex);
+        }
+    }
+
+    // Decodes only every n-th pixel of large images, so a 6000px photo never gets fully materialized
+    private BufferedImage readSubsampled(File file) throws IOException {
+        try (ImageInputStream imageStream = ImageIO.createImageInputStream(file)) {
+            Iterator<ImageReader> readers = imageStream == null ? null : ImageIO.getImageReaders(imageStream);
+            if (readers == null || !readers.hasNext()) {
+                throw new BadRequestException("Attachment is not a supported image.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new BadRequestException("Image is too large to generate a thumbnail.");
+                }
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.min(width, height) / (thumbnailSize * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scaleToFit(BufferedImage source) {
+        double scale = Math.min(1.0, Math.min(
+                (double) thumbnailSize / source.getWidth(), (double) thumbnailSize / source.getHeight()));
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
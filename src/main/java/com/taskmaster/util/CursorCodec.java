@@ -0,0 +1,39 @@
+package com.taskmaster.util;
+
+import com.taskmaster.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.StringJoiner;
+
+/**
+ * Encodes keyset pagination positions as opaque URL-safe cursors. Only the last part may contain '|'.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... parts) {
+        StringJoiner joiner = new StringJoiner(SEPARATOR);
+        for (Object part : parts) {
+            joiner.add(String.valueOf(part));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedParts) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\|", expectedParts);
+            if (parts.length != expectedParts) {
+                throw new BadRequestException("Invalid cursor.");
+            }
+            return parts;
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor.", ex);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.taskmaster.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lexicographic rank keys for manual ordering. Keys use the base-62 alphabet [0-9A-Za-z], compare in
+ * plain byte order (the rank column uses COLLATE "C") and never end with '0', so a key can always be
+ * generated strictly between two distinct keys. Moving an item therefore rewrites only that item's key.
+ */
+public final class LexoRank {
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    // Width of keys produced by after() and spread(): 62^6 slots, far more than any column holds
+    private static final int WIDTH = 6;
+    private static final String INITIAL = "U00001"; // Near the middle, leaving room on both sides
+
+    private LexoRank() {
+    }
+
+    /**
+     * Returns a key after {@code lower} (null or empty means the column is empty). Appends increment a
+     * fixed-width prefix instead of halving the remaining range, so repeated appends do not grow the key.
+     */
+    public static String after(String lower) {
+        if (lower == null || lower.isEmpty()) {
+            return INITIAL;
+        }
+        char[] digits = new char[WIDTH];
+        for (int i = 0; i < WIDTH; i++) {
+            digits[i] = i < lower.length() ? lower.charAt(i) : DIGITS.charAt(0);
+        }
+        do {
+            if (!increment(digits)) {
+                return between(lower, null); // Prefix space exhausted: fall back to bisection
+            }
+        } while (digits[WIDTH - 1] == DIGITS.charAt(0));
+        return new String(digits);
+    }
+
+    /**
+     * Returns a key before {@code upper} (null or empty means the column is empty), decrementing a fixed-width
+     * prefix so that repeatedly moving items to the top does not grow the key either.
+     */
+    public static String before(String upper) {
+        if (upper == null || upper.isEmpty()) {
+            return INITIAL;
+        }
+        char[] digits = new char[WIDTH];
+        for (int i = 0; i < WIDTH; i++) {
+            digits[i] = i < upper.length() ? upper.charAt(i) : DIGITS.charAt(0);
+        }
+        do {
+            if (!decrement(digits)) {
+                return between(null, upper); // Prefix space exhausted: fall back to bisection
+            }
+        } while (digits[WIDTH - 1] == DIGITS.charAt(0));
+        return new String(digits);
+    }
+
+    /**
+     * Returns a key strictly between {@code lower} and {@code upper}. A null or empty {@code lower} means
+     * "before everything", a null {@code upper} means "after everything".
+     * @throws IllegalArgumentException if {@code lower} is not strictly before {@code upper}.
+     */
+    public static String between(String lower, String upper) {
+        String lo = lower != null ? lower : "";
+        String hi = upper != null && !upper.isEmpty() ? upper : null;
+        if (hi != null && lo.compareTo(hi) >= 0) {
+            throw new IllegalArgumentException("Rank '" + lo + "' is not before '" + hi + "'");
+        }
+
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; ; i++) {
+            int l = i < lo.length() ? digit(lo.charAt(i)) : 0;
+            int h = hi != null ? (i < hi.length() ? digit(hi.charAt(i)) : 0) : BASE;
+            if (l == h) {
+                key.append(DIGITS.charAt(l)); // Shared prefix
+                continue;
+            }
+            int mid = (l + h) / 2;
+            if (mid > l) {
+                return key.append(DIGITS.charAt(mid)).toString();
+            }
+            // Adjacent digits: keep lower's digit, after which any suffix stays below upper
+            key.append(DIGITS.charAt(l));
+            hi = null;
+        }
+    }
+
+    /**
+     * Returns {@code count} evenly spaced, strictly increasing keys of the standard width, for rebalancing a column.
+     */
+    public static List<String> spread(int count) {
+        long slots = 1;
+        for (int i = 0; i < WIDTH; i++) {
+            slots *= BASE;
+        }
+        long step = Math.max(1, slots / (count + 1L));
+        List<String> keys = new ArrayList<>(count);
+        long value = 0;
+        for (int i = 0; i < count; i++) {
+            value += step;
+            if (value % BASE == 0) {
+                value++; // Never end a key with the lowest digit
+            }
+            keys.add(encode(value));
+        }
+        return keys;
+    }
+
+    public static boolean isValid(String key) {
+        if (key == null || key.isEmpty() || key.charAt(key.length() - 1) == DIGITS.charAt(0)) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String encode(long value) {
+        char[] digits = new char[WIDTH];
+        for (int i = WIDTH - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(digits);
+    }
+
+    private static boolean increment(char[] digits) {
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int d = digit(digits[i]);
+            if (d < BASE - 1) {
+                digits[i] = DIGITS.charAt(d + 1);
+                return true;
+            }
+            digits[i] = DIGITS.charAt(0);
+        }
+        return false;
+    }
+
+    private static boolean decrement(char[] digits) {
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int d = digit(digits[i]);
+            if (d > 0) {
+                digits[i] = DIGITS.charAt(d - 1);
+                return true;
+            }
+            digits[i] = DIGITS.charAt(BASE - 1);
+        }
+        return false;
+    }
+
+    private static int digit(char c) {
+        int d = DIGITS.indexOf(c);
+        if (d < 0) {
+            throw new IllegalArgumentException("Invalid rank character '" + c + "'");
+        }
+        return d;
+    }
+}
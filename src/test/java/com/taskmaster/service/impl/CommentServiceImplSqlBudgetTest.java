@@ -0,0 +1,114 @@
+package com.taskmaster.service.impl;
+
+import com.taskmaster.diagnostics.SqlBudget;
+import com.taskmaster.dto.CursorPagedResponse;
+import com.taskmaster.dto.PagedResponse;
+import com.taskmaster.dto.comment.CommentCreateRequest;
+import com.taskmaster.dto.comment.CommentResponse;
+import com.taskmaster.service.CommentService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pins the statements behind the comment listings: the author summaries must come with the page, not one query per
+ * comment, and the keyset scroll must not count. Runs against an embedded PostgreSQL like the load test.
+ */
+@SpringBootTest
+class CommentServiceImplSqlBudgetTest {
+
+    private static final int AUTHORS = 5;
+    private static final int COMMENTS = 30;
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired private CommentService commentService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    private long ownerId;
+    private long taskId;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("file.upload-dir", Files.createTempDirectory("taskmaster-test-uploads")::toString);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void seed() {
+        String suffix = Long.toString(System.nanoTime());
+        long[] authorIds = new long[AUTHORS];
+        for (int i = 0; i < AUTHORS; i++) {
+            authorIds[i] = jdbcTemplate.queryForObject(
+                    "INSERT INTO users (username, email, password, first_name, last_name, created_at, updated_at) " +
+                    "VALUES (?, ?, 'x', 'First', 'Last', now(), now()) RETURNING id",
+                    Long.class, "author" + i + "_" + suffix, "author" + i + "_" + suffix + "@example.com");
+        }
+        ownerId = authorIds[0];
+        long projectId = jdbcTemplate.queryForObject(
+                "INSERT INTO projects (name, owner_id, created_at, updated_at) VALUES ('Comments', ?, now(), now()) RETURNING id",
+                Long.class, ownerId);
+        for (long authorId : authorIds) {
+            jdbcTemplate.update("INSERT INTO project_members (user_id, project_id) VALUES (?, ?)", authorId, projectId);
+        }
+        taskId = jdbcTemplate.queryForObject(
+                "INSERT INTO tasks (title, status, project_id, created_at, updated_at) " +
+                "VALUES ('Task', 'OPEN', ?, now(), now()) RETURNING id",
+                Long.class, projectId);
+        // Through the service: the content column is a @Lob, which plain JDBC inserts do not write the same way
+        for (int i = 0; i < COMMENTS; i++) {
+            CommentCreateRequest request = new CommentCreateRequest();
+            request.setContent("Comment " + i);
+            commentService.addComment(taskId, request, authorIds[i % AUTHORS]);
+        }
+    }
+
+    @Test
+    void pagedListingLoadsAuthorsWithThePage() {
+        // Project lookup, membership check, page, count
+        PagedResponse<CommentResponse> page = SqlBudget.statements(4).repeats(1)
+                .run(() -> commentService.getCommentsByTaskId(taskId, ownerId, PageRequest.of(0, 20)));
+
+        assertEquals(20, page.getContent().size());
+        assertEquals(COMMENTS, page.getTotalElements());
+        page.getContent().forEach(comment -> assertNotNull(comment.getAuthor().getUsername()));
+    }
+
+    @Test
+    void scrollListingRunsNoCountQuery() {
+        // Project lookup, membership check, page
+        CursorPagedResponse<CommentResponse> first = SqlBudget.statements(3).repeats(1)
+                .run(() -> commentService.scrollCommentsByTaskId(taskId, ownerId, null, 20));
+        assertEquals(20, first.getContent().size());
+        assertFalse(first.isLast());
+
+        CursorPagedResponse<CommentResponse> second = SqlBudget.statements(3).repeats(1)
+                .run(() -> commentService.scrollCommentsByTaskId(taskId, ownerId, first.getNextCursor(), 20));
+        assertEquals(COMMENTS - 20, second.getContent().size());
+        assertTrue(second.isLast());
+        second.getContent().forEach(comment -> assertNotNull(comment.getAuthor().getUsername()));
+    }
+}